@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.MetricsWrapper;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * Metered executor service advice.
+ */
+public final class MeteredExecutorServiceAdvice implements InstanceMethodAroundAdvice {
+    
+    public static final String ENQUEUE = "enqueue";
+    
+    public static final String RUN = "run";
+    
+    public static final String AWAIT_CONCURRENCY_LIMITER = "awaitConcurrencyLimiter";
+    
+    public static final String RUN_WITH_METRICS = "runWithMetrics";
+    
+    static {
+        MetricsPool.create(MetricIds.EXECUTOR_QUEUED_TASK);
+        MetricsPool.create(MetricIds.EXECUTOR_BLOCKED_TASK);
+        MetricsPool.create(MetricIds.EXECUTOR_RUNNING_TASK);
+        MetricsPool.create(MetricIds.EXECUTOR_TASK_WAIT_LATENCY_MILLIS);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        switch (method.getName()) {
+            case ENQUEUE:
+                MetricsPool.get(MetricIds.EXECUTOR_QUEUED_TASK).ifPresent(MetricsWrapper::inc);
+                break;
+            case RUN:
+                MetricsPool.get(MetricIds.EXECUTOR_QUEUED_TASK).ifPresent(MetricsWrapper::dec);
+                break;
+            case AWAIT_CONCURRENCY_LIMITER:
+                MetricsPool.get(MetricIds.EXECUTOR_BLOCKED_TASK).ifPresent(MetricsWrapper::inc);
+                break;
+            case RUN_WITH_METRICS:
+                MetricsPool.get(MetricIds.EXECUTOR_RUNNING_TASK).ifPresent(MetricsWrapper::inc);
+                MetricsPool.get(MetricIds.EXECUTOR_TASK_WAIT_LATENCY_MILLIS).ifPresent(m -> m.observe((long) args[1]));
+                break;
+            default:
+                break;
+        }
+    }
+    
+    @Override
+    public void afterMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        switch (method.getName()) {
+            case AWAIT_CONCURRENCY_LIMITER:
+                MetricsPool.get(MetricIds.EXECUTOR_BLOCKED_TASK).ifPresent(MetricsWrapper::dec);
+                break;
+            case RUN_WITH_METRICS:
+                MetricsPool.get(MetricIds.EXECUTOR_RUNNING_TASK).ifPresent(MetricsWrapper::dec);
+                break;
+            default:
+                break;
+        }
+    }
+    
+    @Override
+    public void onThrowing(final AdviceTargetObject target, final Method method, final Object[] args, final Throwable throwable) {
+        if (ENQUEUE.equals(method.getName())) {
+            MetricsPool.get(MetricIds.EXECUTOR_QUEUED_TASK).ifPresent(MetricsWrapper::dec);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.advice.AdviceTargetObject;
+import org.apache.shardingsphere.agent.api.advice.InstanceMethodAroundAdvice;
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.MetricsWrapper;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+
+import java.lang.reflect.Method;
+
+/**
+ * SQL parser executor advice.
+ */
+public final class SQLParserExecutorAdvice implements InstanceMethodAroundAdvice {
+    
+    public static final String TWO_PHASE_PARSE = "twoPhaseParse";
+    
+    public static final String FALLBACK_TO_LL_PREDICTION = "fallbackToLLPrediction";
+    
+    public static final String PARSE_WITH_RECORDED_LL_PREDICTION = "parseWithRecordedLLPrediction";
+    
+    static {
+        MetricsPool.create(MetricIds.PARSE_SQL_ANTLR);
+        MetricsPool.create(MetricIds.PARSE_SQL_LL_PREDICTION);
+        MetricsPool.create(MetricIds.PARSE_SQL_RECORDED_LL_PREDICTION);
+    }
+    
+    @Override
+    public void beforeMethod(final AdviceTargetObject target, final Method method, final Object[] args, final MethodInvocationResult result) {
+        String methodName = method.getName();
+        if (TWO_PHASE_PARSE.equals(methodName)) {
+            MetricsPool.get(MetricIds.PARSE_SQL_ANTLR).ifPresent(MetricsWrapper::inc);
+        } else if (FALLBACK_TO_LL_PREDICTION.equals(methodName)) {
+            MetricsPool.get(MetricIds.PARSE_SQL_LL_PREDICTION).ifPresent(MetricsWrapper::inc);
+        } else if (PARSE_WITH_RECORDED_LL_PREDICTION.equals(methodName)) {
+            MetricsPool.get(MetricIds.PARSE_SQL_RECORDED_LL_PREDICTION).ifPresent(MetricsWrapper::inc);
+        }
+    }
+}
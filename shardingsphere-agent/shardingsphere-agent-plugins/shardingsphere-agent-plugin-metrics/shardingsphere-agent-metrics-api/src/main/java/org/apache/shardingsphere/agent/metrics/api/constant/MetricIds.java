@@ -70,4 +70,18 @@ public final class MetricIds {
     public static final String PARSE_DIST_SQL_RDL = "parse_dist_sql_rdl_total";
     
     public static final String PARSE_DIST_SQL_RAL = "parse_dist_sql_ral_total";
+    
+    public static final String PARSE_SQL_ANTLR = "parse_sql_antlr_total";
+    
+    public static final String PARSE_SQL_LL_PREDICTION = "parse_sql_ll_prediction_total";
+    
+    public static final String PARSE_SQL_RECORDED_LL_PREDICTION = "parse_sql_recorded_ll_prediction_total";
+    
+    public static final String EXECUTOR_QUEUED_TASK = "executor_queued_task_total";
+    
+    public static final String EXECUTOR_BLOCKED_TASK = "executor_blocked_task_total";
+    
+    public static final String EXECUTOR_RUNNING_TASK = "executor_running_task_total";
+    
+    public static final String EXECUTOR_TASK_WAIT_LATENCY_MILLIS = "executor_task_wait_latency_millis";
 }
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class MeteredExecutorServiceAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final MeteredExecutorServiceAdvice meteredExecutorServiceAdvice = new MeteredExecutorServiceAdvice();
+    
+    @Mock
+    private Method enqueue;
+    
+    @Mock
+    private Method run;
+    
+    @Mock
+    private Method awaitConcurrencyLimiter;
+    
+    @Mock
+    private Method runWithMetrics;
+    
+    @Test
+    public void assertMethod() {
+        when(enqueue.getName()).thenReturn(MeteredExecutorServiceAdvice.ENQUEUE);
+        when(run.getName()).thenReturn(MeteredExecutorServiceAdvice.RUN);
+        when(awaitConcurrencyLimiter.getName()).thenReturn(MeteredExecutorServiceAdvice.AWAIT_CONCURRENCY_LIMITER);
+        when(runWithMetrics.getName()).thenReturn(MeteredExecutorServiceAdvice.RUN_WITH_METRICS);
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        meteredExecutorServiceAdvice.beforeMethod(targetObject, enqueue, new Object[]{}, new MethodInvocationResult());
+        meteredExecutorServiceAdvice.beforeMethod(targetObject, enqueue, new Object[]{}, new MethodInvocationResult());
+        meteredExecutorServiceAdvice.onThrowing(targetObject, enqueue, new Object[]{}, new IllegalStateException());
+        meteredExecutorServiceAdvice.beforeMethod(targetObject, enqueue, new Object[]{}, new MethodInvocationResult());
+        meteredExecutorServiceAdvice.beforeMethod(targetObject, run, new Object[]{}, new MethodInvocationResult());
+        meteredExecutorServiceAdvice.beforeMethod(targetObject, awaitConcurrencyLimiter, new Object[]{}, new MethodInvocationResult());
+        assertThat(getFixtureValue(MetricIds.EXECUTOR_QUEUED_TASK), is(1.0));
+        assertThat(getFixtureValue(MetricIds.EXECUTOR_BLOCKED_TASK), is(1.0));
+        meteredExecutorServiceAdvice.afterMethod(targetObject, awaitConcurrencyLimiter, new Object[]{}, new MethodInvocationResult());
+        meteredExecutorServiceAdvice.beforeMethod(targetObject, runWithMetrics, new Object[]{null, 5L}, new MethodInvocationResult());
+        assertThat(getFixtureValue(MetricIds.EXECUTOR_BLOCKED_TASK), is(0.0));
+        assertThat(getFixtureValue(MetricIds.EXECUTOR_RUNNING_TASK), is(1.0));
+        assertThat(getFixtureValue(MetricIds.EXECUTOR_TASK_WAIT_LATENCY_MILLIS), is(5.0));
+        meteredExecutorServiceAdvice.afterMethod(targetObject, runWithMetrics, new Object[]{null, 5L}, new MethodInvocationResult());
+        assertThat(getFixtureValue(MetricIds.EXECUTOR_RUNNING_TASK), is(0.0));
+    }
+    
+    private double getFixtureValue(final String metricId) {
+        return ((FixtureWrapper) MetricsPool.get(metricId).get()).getFixtureValue();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.metrics.api.advice;
+
+import org.apache.shardingsphere.agent.api.result.MethodInvocationResult;
+import org.apache.shardingsphere.agent.metrics.api.MetricsPool;
+import org.apache.shardingsphere.agent.metrics.api.constant.MetricIds;
+import org.apache.shardingsphere.agent.metrics.api.fixture.FixtureWrapper;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.lang.reflect.Method;
+
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class SQLParserExecutorAdviceTest extends MetricsAdviceBaseTest {
+    
+    private final SQLParserExecutorAdvice sqlParserExecutorAdvice = new SQLParserExecutorAdvice();
+    
+    @Mock
+    private Method twoPhaseParse;
+    
+    @Mock
+    private Method fallbackToLLPrediction;
+    
+    @Mock
+    private Method parseWithRecordedLLPrediction;
+    
+    @Test
+    public void assertMethod() {
+        when(twoPhaseParse.getName()).thenReturn(SQLParserExecutorAdvice.TWO_PHASE_PARSE);
+        when(fallbackToLLPrediction.getName()).thenReturn(SQLParserExecutorAdvice.FALLBACK_TO_LL_PREDICTION);
+        when(parseWithRecordedLLPrediction.getName()).thenReturn(SQLParserExecutorAdvice.PARSE_WITH_RECORDED_LL_PREDICTION);
+        MockAdviceTargetObject targetObject = new MockAdviceTargetObject();
+        sqlParserExecutorAdvice.beforeMethod(targetObject, twoPhaseParse, new Object[]{}, new MethodInvocationResult());
+        sqlParserExecutorAdvice.beforeMethod(targetObject, twoPhaseParse, new Object[]{}, new MethodInvocationResult());
+        sqlParserExecutorAdvice.beforeMethod(targetObject, fallbackToLLPrediction, new Object[]{}, new MethodInvocationResult());
+        sqlParserExecutorAdvice.beforeMethod(targetObject, parseWithRecordedLLPrediction, new Object[]{}, new MethodInvocationResult());
+        sqlParserExecutorAdvice.beforeMethod(targetObject, parseWithRecordedLLPrediction, new Object[]{}, new MethodInvocationResult());
+        assertTrue(MetricsPool.get(MetricIds.PARSE_SQL_ANTLR).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.PARSE_SQL_ANTLR).get()).getFixtureValue(), Matchers.is(2.0));
+        assertTrue(MetricsPool.get(MetricIds.PARSE_SQL_LL_PREDICTION).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.PARSE_SQL_LL_PREDICTION).get()).getFixtureValue(), Matchers.is(1.0));
+        assertTrue(MetricsPool.get(MetricIds.PARSE_SQL_RECORDED_LL_PREDICTION).isPresent());
+        assertThat(((FixtureWrapper) MetricsPool.get(MetricIds.PARSE_SQL_RECORDED_LL_PREDICTION).get()).getFixtureValue(), Matchers.is(2.0));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.infra.expr.InlineExpressionParser;
+
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Inline sharding expression evaluator.
+ * 
+ * <p>Expressions like {@code t_order_${order_id % 16}} or {@code t_order_${order_id}} are compiled at construction
+ * and evaluated without Groovy for integral values; other expressions are evaluated by a thread confined Groovy closure.</p>
+ */
+public final class InlineShardingExpressionEvaluator {
+    
+    private static final Pattern COMPILABLE_PATTERN = Pattern.compile("^([^$\"\\\\{}]*)\\$\\{\\s*([A-Za-z_][A-Za-z0-9_]*)\\s*(?:%\\s*([1-9][0-9]{0,8})\\s*)?}([^$\"\\\\{}]*)$");
+    
+    private final String algorithmExpression;
+    
+    private final boolean compiled;
+    
+    private final String prefix;
+    
+    private final String variableName;
+    
+    private final int modulus;
+    
+    private final String suffix;
+    
+    private final ThreadLocal<Closure<?>> closure;
+    
+    public InlineShardingExpressionEvaluator(final String algorithmExpression) {
+        this.algorithmExpression = algorithmExpression;
+        Matcher matcher = COMPILABLE_PATTERN.matcher(algorithmExpression);
+        compiled = matcher.matches();
+        prefix = compiled ? matcher.group(1) : null;
+        variableName = compiled ? matcher.group(2) : null;
+        modulus = compiled && null != matcher.group(3) ? Integer.parseInt(matcher.group(3)) : 0;
+        suffix = compiled ? matcher.group(4) : null;
+        closure = ThreadLocal.withInitial(this::createClosure);
+    }
+    
+    /**
+     * Evaluate expression with single variable.
+     * 
+     * @param name variable name
+     * @param value variable value
+     * @return evaluated result
+     */
+    public String evaluate(final String name, final Comparable<?> value) {
+        if (isCompiledFor(name, value)) {
+            return evaluateCompiled(value);
+        }
+        Closure<?> closure = getClosure();
+        closure.setProperty(name, value);
+        return closure.call().toString();
+    }
+    
+    /**
+     * Evaluate expression with variables.
+     * 
+     * @param variables variable names and values
+     * @return evaluated result
+     */
+    public String evaluate(final Map<String, Comparable<?>> variables) {
+        if (1 == variables.size()) {
+            Entry<String, Comparable<?>> entry = variables.entrySet().iterator().next();
+            return evaluate(entry.getKey(), entry.getValue());
+        }
+        Closure<?> closure = getClosure();
+        for (Entry<String, Comparable<?>> entry : variables.entrySet()) {
+            closure.setProperty(entry.getKey(), entry.getValue());
+        }
+        return closure.call().toString();
+    }
+    
+    private boolean isCompiledFor(final String name, final Comparable<?> value) {
+        return compiled && variableName.equals(name) && (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte);
+    }
+    
+    private String evaluateCompiled(final Comparable<?> value) {
+        long actualValue = ((Number) value).longValue();
+        return prefix + (0 == modulus ? actualValue : actualValue % modulus) + suffix;
+    }
+    
+    private Closure<?> getClosure() {
+        Closure<?> result = closure.get();
+        ((Expando) result.getDelegate()).getProperties().clear();
+        return result;
+    }
+    
+    private Closure<?> createClosure() {
+        Closure<?> result = new InlineExpressionParser(algorithmExpression).evaluateClosure().rehydrate(new Expando(), null, null);
+        result.setResolveStrategy(Closure.DELEGATE_ONLY);
+        return result;
+    }
+}
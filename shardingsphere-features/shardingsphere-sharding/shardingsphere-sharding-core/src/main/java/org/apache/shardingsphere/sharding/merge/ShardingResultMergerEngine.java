@@ -26,6 +26,8 @@ import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.DALStatement;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMerger;
 import org.apache.shardingsphere.infra.merge.engine.merger.ResultMergerEngine;
 import org.apache.shardingsphere.infra.merge.engine.merger.impl.TransparentResultMerger;
@@ -38,8 +40,16 @@ public final class ShardingResultMergerEngine implements ResultMergerEngine<Shar
     @Override
     public ResultMerger newInstance(final String schemaName, final DatabaseType databaseType, final ShardingRule shardingRule, final ConfigurationProperties props,
                                     final SQLStatementContext<?> sqlStatementContext) {
+        return newInstance(schemaName, databaseType, shardingRule, props, sqlStatementContext, null);
+    }
+    
+    @Override
+    public ResultMerger newInstance(final String schemaName, final DatabaseType databaseType, final ShardingRule shardingRule, final ConfigurationProperties props,
+                                    final SQLStatementContext<?> sqlStatementContext, final ExecutorEngine executorEngine) {
         if (sqlStatementContext instanceof SelectStatementContext) {
-            return new ShardingDQLResultMerger(databaseType);
+            ExecutorEngine groupByExecutorEngine = props.<Boolean>getValue(ConfigurationPropertyKey.PARALLEL_GROUP_BY_MERGE_ENABLED) ? executorEngine : null;
+            return new ShardingDQLResultMerger(databaseType, props.getValue(ConfigurationPropertyKey.MAX_MEMORY_GROUP_SIZE_PER_QUERY),
+                    groupByExecutorEngine, props.getValue(ConfigurationPropertyKey.PARALLEL_GROUP_BY_MERGE_MIN_ROW_COUNT));
         }
         if (sqlStatementContext.getSqlStatement() instanceof DALStatement) {
             return new ShardingDALResultMerger(schemaName, shardingRule);
@@ -0,0 +1,467 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.AbstractIterator;
+import com.google.common.collect.Iterators;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSphereException;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Memory merger for group by.
+ * 
+ * <p>
+ * If max memory group size is positive, groups beyond it are not aggregated in memory, their rows are hash partitioned to spill files instead.
+ * Each partition is aggregated in the same way after groups in memory are finished, and every aggregated part is sorted and spilled as a sorted run.
+ * Rows are returned by streaming merge of sorted runs, so the number of groups held in memory is bounded by max memory group size rather than total group size.
+ * Max memory group size is a count of groups, not bytes, so the memory used depends on the width of rows.
+ * At most max merge fan-in sorted runs are opened at the same time, more runs are merged to intermediate sorted runs first.
+ * Spill files are deleted once all rows are read or the merger is closed.
+ * </p>
+ * 
+ * <p>
+ * Without max memory group size, query results loaded in memory are aggregated in parallel by executor engine if present and their total row count reaches min parallel row count.
+ * Each query result is aggregated to partial aggregation independently, then partial aggregations are combined by tree reduction.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class GroupByMemoryMerger implements AutoCloseable {
+    
+    private static final int SPILL_PARTITION_SIZE = 16;
+    
+    private static final int SPILL_PARTITION_BITS = 4;
+    
+    private static final int MAX_SPILL_DEPTH = 4;
+    
+    private static final int MAX_MERGE_FAN_IN = 16;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final int maxMemoryGroupSize;
+    
+    private final ExecutorEngine executorEngine;
+    
+    private final int minParallelRowCount;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    /**
+     * Merge query results in memory.
+     * 
+     * @param queryResults query results
+     * @return sorted memory query result rows
+     * @throws SQLException SQL exception
+     */
+    public List<MemoryQueryResultRow> mergeInMemory(final List<QueryResult> queryResults) throws SQLException {
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = aggregate(queryResults, null, 0);
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next());
+        return getMemoryResultSetRows(dataMap, valueCaseSensitive);
+    }
+    
+    /**
+     * Merge query results, spill to files if groups exceed max memory group size.
+     * 
+     * @param queryResults query results
+     * @return sorted memory query result rows
+     * @throws SQLException SQL exception
+     */
+    public Iterator<MemoryQueryResultRow> merge(final List<QueryResult> queryResults) throws SQLException {
+        if (isParallelAggregate(queryResults)) {
+            Map<GroupByValue, MemoryQueryResultRow> dataMap = parallelAggregate(queryResults);
+            return getMemoryResultSetRows(dataMap, getValueCaseSensitive(queryResults.iterator().next())).iterator();
+        }
+        if (maxMemoryGroupSize <= 0 || queryResults.isEmpty()) {
+            return mergeInMemory(queryResults).iterator();
+        }
+        try {
+            return mergeWithSpill(queryResults);
+        } catch (final SQLException | RuntimeException ex) {
+            close();
+            throw ex;
+        }
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeWithSpill(final List<QueryResult> queryResults) throws SQLException {
+        SpillPartitions spillPartitions = new SpillPartitions(spillFiles);
+        Map<GroupByValue, MemoryQueryResultRow> dataMap = aggregate(queryResults, spillPartitions, 0);
+        List<Boolean> valueCaseSensitive = getValueCaseSensitive(queryResults.iterator().next());
+        if (spillPartitions.isEmpty()) {
+            return getMemoryResultSetRows(dataMap, valueCaseSensitive).iterator();
+        }
+        QueryResultMetaData metaData = queryResults.iterator().next().getMetaData();
+        Comparator<MemoryQueryResultRow> comparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        List<GroupBySpillFile> sortedRuns = new LinkedList<>();
+        sortedRuns.add(spillSortedRun(dataMap.values(), comparator, metaData.getColumnCount()));
+        mergeSpillPartitions(spillPartitions, metaData, comparator, 1, sortedRuns);
+        return new SpillMergedRowIterator(mergeSortedRuns(sortedRuns, comparator, metaData.getColumnCount()), spillFiles);
+    }
+    
+    private Iterator<MemoryQueryResultRow> mergeSortedRuns(final List<GroupBySpillFile> sortedRuns, final Comparator<MemoryQueryResultRow> comparator, final int columnCount) throws SQLException {
+        List<GroupBySpillFile> runs = sortedRuns;
+        while (runs.size() > MAX_MERGE_FAN_IN) {
+            List<GroupBySpillFile> mergedRuns = new LinkedList<>();
+            for (List<GroupBySpillFile> each : Lists.partition(runs, MAX_MERGE_FAN_IN)) {
+                mergedRuns.add(1 == each.size() ? each.get(0) : spillSortedRun(openSortedRuns(each, comparator), columnCount));
+            }
+            runs = mergedRuns;
+        }
+        return openSortedRuns(runs, comparator);
+    }
+    
+    private Iterator<MemoryQueryResultRow> openSortedRuns(final Collection<GroupBySpillFile> sortedRuns, final Comparator<MemoryQueryResultRow> comparator) throws SQLException {
+        Collection<Iterator<MemoryQueryResultRow>> result = new ArrayList<>(sortedRuns.size());
+        for (GroupBySpillFile each : sortedRuns) {
+            result.add(Iterators.transform(each.read(), MemoryQueryResultRow::new));
+        }
+        return Iterators.mergeSorted(result, comparator);
+    }
+    
+    private boolean isParallelAggregate(final List<QueryResult> queryResults) {
+        if (null == executorEngine || maxMemoryGroupSize > 0 || queryResults.size() < 2) {
+            return false;
+        }
+        long rowCount = 0L;
+        for (QueryResult each : queryResults) {
+            if (!(each instanceof AbstractMemoryQueryResult)) {
+                return false;
+            }
+            rowCount += ((AbstractMemoryQueryResult) each).getRowCount();
+        }
+        return rowCount >= minParallelRowCount;
+    }
+    
+    private Map<GroupByValue, MemoryQueryResultRow> parallelAggregate(final List<QueryResult> queryResults) throws SQLException {
+        ExecutorService executorService = executorEngine.getExecutorServiceManager().getExecutorService();
+        Collection<Future<GroupByAggregation>> futures = new LinkedList<>();
+        for (QueryResult each : queryResults.subList(1, queryResults.size())) {
+            futures.add(executorService.submit(() -> aggregate(each, new GroupByAggregation(), null, 0)));
+        }
+        List<GroupByAggregation> aggregations = new ArrayList<>(queryResults.size());
+        aggregations.add(aggregate(queryResults.get(0), new GroupByAggregation(), null, 0));
+        aggregations.addAll(getFutureResults(futures));
+        while (aggregations.size() > 1) {
+            aggregations = combine(aggregations, executorService);
+        }
+        return finishAggregation(aggregations.get(0));
+    }
+    
+    private List<GroupByAggregation> combine(final List<GroupByAggregation> aggregations, final ExecutorService executorService) throws SQLException {
+        Collection<Future<GroupByAggregation>> futures = new LinkedList<>();
+        for (int i = 2; i + 1 < aggregations.size(); i += 2) {
+            GroupByAggregation left = aggregations.get(i);
+            GroupByAggregation right = aggregations.get(i + 1);
+            futures.add(executorService.submit(() -> left.combine(right)));
+        }
+        List<GroupByAggregation> result = new ArrayList<>(aggregations.size() / 2 + 1);
+        result.add(aggregations.get(0).combine(aggregations.get(1)));
+        result.addAll(getFutureResults(futures));
+        if (1 == aggregations.size() % 2) {
+            result.add(aggregations.get(aggregations.size() - 1));
+        }
+        return result;
+    }
+    
+    private List<GroupByAggregation> getFutureResults(final Collection<Future<GroupByAggregation>> futures) throws SQLException {
+        List<GroupByAggregation> result = new ArrayList<>(futures.size());
+        for (Future<GroupByAggregation> each : futures) {
+            try {
+                result.add(each.get());
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ShardingSphereException(ex);
+            } catch (final ExecutionException ex) {
+                if (ex.getCause() instanceof SQLException) {
+                    throw (SQLException) ex.getCause();
+                }
+                throw new ShardingSphereException(ex);
+            }
+        }
+        return result;
+    }
+    
+    private void mergeSpillPartitions(final SpillPartitions spillPartitions, final QueryResultMetaData metaData, final Comparator<MemoryQueryResultRow> comparator,
+                                      final int depth, final Collection<GroupBySpillFile> sortedRuns) throws SQLException {
+        for (GroupBySpillFile each : spillPartitions.files) {
+            if (null == each) {
+                continue;
+            }
+            SpillPartitions subSpillPartitions = depth < MAX_SPILL_DEPTH ? new SpillPartitions(spillPartitions.spillFiles) : null;
+            Map<GroupByValue, MemoryQueryResultRow> dataMap = aggregate(Collections.singletonList(new SpillQueryResult(metaData, each)), subSpillPartitions, depth);
+            sortedRuns.add(spillSortedRun(dataMap.values(), comparator, metaData.getColumnCount()));
+            if (null != subSpillPartitions) {
+                mergeSpillPartitions(subSpillPartitions, metaData, comparator, depth + 1, sortedRuns);
+            }
+        }
+    }
+    
+    private Map<GroupByValue, MemoryQueryResultRow> aggregate(final List<QueryResult> queryResults, final SpillPartitions spillPartitions, final int depth) throws SQLException {
+        GroupByAggregation aggregation = new GroupByAggregation();
+        for (QueryResult each : queryResults) {
+            aggregate(each, aggregation, spillPartitions, depth);
+        }
+        return finishAggregation(aggregation);
+    }
+    
+    private GroupByAggregation aggregate(final QueryResult queryResult, final GroupByAggregation aggregation, final SpillPartitions spillPartitions, final int depth) throws SQLException {
+        while (queryResult.next()) {
+            GroupByValue groupByValue = new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems());
+            if (null != spillPartitions && aggregation.dataMap.size() >= maxMemoryGroupSize && !aggregation.dataMap.containsKey(groupByValue)) {
+                spill(queryResult, groupByValue, spillPartitions, depth);
+                continue;
+            }
+            initForFirstGroupByValue(queryResult, groupByValue, aggregation.dataMap, aggregation.aggregationMap);
+            aggregate(queryResult, groupByValue, aggregation.aggregationMap);
+        }
+        return aggregation;
+    }
+    
+    private Map<GroupByValue, MemoryQueryResultRow> finishAggregation(final GroupByAggregation aggregation) {
+        setAggregationValueToMemoryRow(aggregation.dataMap, aggregation.aggregationMap);
+        return aggregation.dataMap;
+    }
+    
+    private void spill(final QueryResult queryResult, final GroupByValue groupByValue, final SpillPartitions spillPartitions, final int depth) throws SQLException {
+        int hashCode = groupByValue.hashCode();
+        int partition = ((hashCode ^ hashCode >>> 16) >>> depth * SPILL_PARTITION_BITS) & (SPILL_PARTITION_SIZE - 1);
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        Object[] row = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            row[i] = queryResult.getValue(i + 1, Object.class);
+        }
+        spillPartitions.getOrCreate(partition).write(row);
+    }
+    
+    private GroupBySpillFile spillSortedRun(final Collection<MemoryQueryResultRow> rows, final Comparator<MemoryQueryResultRow> comparator, final int columnCount) throws SQLException {
+        List<MemoryQueryResultRow> sortedRows = new ArrayList<>(rows);
+        sortedRows.sort(comparator);
+        return spillSortedRun(sortedRows.iterator(), columnCount);
+    }
+    
+    private GroupBySpillFile spillSortedRun(final Iterator<MemoryQueryResultRow> sortedRows, final int columnCount) throws SQLException {
+        GroupBySpillFile result = new GroupBySpillFile();
+        spillFiles.add(result);
+        while (sortedRows.hasNext()) {
+            MemoryQueryResultRow each = sortedRows.next();
+            Object[] row = new Object[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                row[i] = each.getCell(i + 1);
+            }
+            result.write(row);
+        }
+        return result;
+    }
+    
+    private void initForFirstGroupByValue(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
+                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+        if (!dataMap.containsKey(groupByValue)) {
+            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        }
+        if (!aggregationMap.containsKey(groupByValue)) {
+            Map<AggregationProjection, AggregationUnit> map = Maps
+                    .toMap(selectStatementContext.getProjectionsContext()
+                            .getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+            aggregationMap.put(groupByValue, map);
+        }
+    }
+    
+    private void aggregate(final QueryResult queryResult, final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
+        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+            List<Comparable<?>> values = new ArrayList<>(2);
+            if (each.getDerivedAggregationProjections().isEmpty()) {
+                values.add(getAggregationValue(queryResult, each));
+            } else {
+                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
+                    values.add(getAggregationValue(queryResult, derived));
+                }
+            }
+            aggregationMap.get(groupByValue).get(each).merge(values);
+        }
+    }
+    
+    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
+        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
+        Preconditions.checkState(null == result || result instanceof Comparable, "Aggregation value must implements Comparable");
+        return (Comparable<?>) result;
+    }
+    
+    private void setAggregationValueToMemoryRow(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+        for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
+                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            }
+        }
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult) throws SQLException {
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            TableMetaData tableMetaData = schema.get(tableName);
+            Map<String, ColumnMetaData> columns = tableMetaData.getColumns();
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (columns.containsKey(columnName)) {
+                return columns.get(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    private List<MemoryQueryResultRow> getMemoryResultSetRows(final Map<GroupByValue, MemoryQueryResultRow> dataMap, final List<Boolean> valueCaseSensitive) {
+        if (dataMap.isEmpty()) {
+            Object[] data = generateReturnData();
+            return Arrays.stream(data).anyMatch(Objects::nonNull) ? Collections.singletonList(new MemoryQueryResultRow(data)) : Collections.emptyList();
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(dataMap.values());
+        result.sort(new GroupByRowComparator(selectStatementContext, valueCaseSensitive));
+        return result;
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        spillFiles.forEach(GroupBySpillFile::close);
+    }
+    
+    private static final class GroupByAggregation {
+        
+        private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024);
+        
+        private final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024);
+        
+        private GroupByAggregation combine(final GroupByAggregation aggregation) {
+            for (Entry<GroupByValue, Map<AggregationProjection, AggregationUnit>> entry : aggregation.aggregationMap.entrySet()) {
+                Map<AggregationProjection, AggregationUnit> aggregationUnits = aggregationMap.get(entry.getKey());
+                if (null == aggregationUnits) {
+                    dataMap.put(entry.getKey(), aggregation.dataMap.get(entry.getKey()));
+                    aggregationMap.put(entry.getKey(), entry.getValue());
+                    continue;
+                }
+                for (Entry<AggregationProjection, AggregationUnit> each : entry.getValue().entrySet()) {
+                    aggregationUnits.get(each.getKey()).combine(each.getValue());
+                }
+            }
+            return this;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillPartitions {
+        
+        private final GroupBySpillFile[] files = new GroupBySpillFile[SPILL_PARTITION_SIZE];
+        
+        private final Collection<GroupBySpillFile> spillFiles;
+        
+        private GroupBySpillFile getOrCreate(final int partition) throws SQLException {
+            if (null == files[partition]) {
+                files[partition] = new GroupBySpillFile();
+                spillFiles.add(files[partition]);
+            }
+            return files[partition];
+        }
+        
+        private boolean isEmpty() {
+            return Arrays.stream(files).allMatch(Objects::isNull);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SpillMergedRowIterator extends AbstractIterator<MemoryQueryResultRow> {
+        
+        private final Iterator<MemoryQueryResultRow> sortedRows;
+        
+        private final Collection<GroupBySpillFile> spillFiles;
+        
+        @Override
+        protected MemoryQueryResultRow computeNext() {
+            try {
+                if (sortedRows.hasNext()) {
+                    return sortedRows.next();
+                }
+            } catch (final RuntimeException ex) {
+                spillFiles.forEach(GroupBySpillFile::close);
+                throw ex;
+            }
+            spillFiles.forEach(GroupBySpillFile::close);
+            return endOfData();
+        }
+    }
+    
+    private static final class SpillQueryResult extends AbstractMemoryQueryResult {
+        
+        SpillQueryResult(final QueryResultMetaData metaData, final GroupBySpillFile spillFile) throws SQLException {
+            super(metaData, Iterators.transform(spillFile.read(), each -> new MemoryQueryResultDataRow(Arrays.asList(each))), spillFile.getRowCount());
+        }
+    }
+}
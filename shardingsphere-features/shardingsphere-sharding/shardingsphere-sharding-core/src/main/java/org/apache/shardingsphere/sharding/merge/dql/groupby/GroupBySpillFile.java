@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import com.google.common.collect.AbstractIterator;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+/**
+ * Spill file of group by merge.
+ * 
+ * <p>
+ * Rows are written once and read once in writing order. The temporary file is deleted as soon as it is opened for reading,
+ * and the read stream is closed once all rows are read, reading fails or spill file is closed.
+ * </p>
+ */
+public final class GroupBySpillFile implements AutoCloseable {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final File file;
+    
+    private final ObjectOutputStream output;
+    
+    private ObjectInputStream input;
+    
+    @Getter
+    private int rowCount;
+    
+    public GroupBySpillFile() throws SQLException {
+        try {
+            file = File.createTempFile("shardingsphere-group-by-", ".spill");
+        } catch (final IOException ex) {
+            throw new SQLException("Can not create group by spill file.", ex);
+        }
+        try {
+            output = new ObjectOutputStream(new BufferedOutputStream(new FileOutputStream(file)));
+        } catch (final IOException ex) {
+            delete();
+            throw new SQLException(String.format("Can not open group by spill file `%s`.", file), ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     * 
+     * @param row row
+     * @throws SQLException SQL exception
+     */
+    public void write(final Object[] row) throws SQLException {
+        try {
+            output.writeObject(row);
+            if (0 == ++rowCount % RESET_INTERVAL) {
+                output.reset();
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new SQLException(String.format("Can not write group by spill file `%s`.", file), ex);
+        }
+    }
+    
+    /**
+     * Read rows.
+     * 
+     * @return rows
+     * @throws SQLException SQL exception
+     */
+    public Iterator<Object[]> read() throws SQLException {
+        closeQuietly(output);
+        try {
+            input = new ObjectInputStream(new BufferedInputStream(new FileInputStream(file)));
+        } catch (final IOException ex) {
+            throw new SQLException(String.format("Can not read group by spill file `%s`.", file), ex);
+        } finally {
+            delete();
+        }
+        return new RowIterator(rowCount);
+    }
+    
+    @Override
+    public void close() {
+        closeQuietly(output);
+        if (null != input) {
+            closeQuietly(input);
+        }
+        delete();
+    }
+    
+    private void closeQuietly(final Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (final IOException ignored) {
+        }
+    }
+    
+    private void delete() {
+        if (!file.delete() && file.exists()) {
+            file.deleteOnExit();
+        }
+    }
+    
+    private final class RowIterator extends AbstractIterator<Object[]> {
+        
+        private int remainingRowCount;
+        
+        RowIterator(final int rowCount) {
+            remainingRowCount = rowCount;
+        }
+        
+        @SneakyThrows({IOException.class, ClassNotFoundException.class})
+        @Override
+        protected Object[] computeNext() {
+            if (0 == remainingRowCount) {
+                close();
+                return endOfData();
+            }
+            remainingRowCount--;
+            try {
+                return (Object[]) input.readObject();
+            } catch (final IOException | ClassNotFoundException ex) {
+                close();
+                throw ex;
+            }
+        }
+    }
+}
@@ -41,6 +41,14 @@ public final class AccumulationAggregationUnit implements AggregationUnit {
         result = result.add(new BigDecimal(values.get(0).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        BigDecimal otherResult = ((AccumulationAggregationUnit) aggregationUnit).result;
+        if (null != otherResult) {
+            result = null == result ? otherResult : result.add(otherResult);
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
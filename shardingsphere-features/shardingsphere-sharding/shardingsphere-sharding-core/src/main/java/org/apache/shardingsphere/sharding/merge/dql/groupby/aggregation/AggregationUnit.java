@@ -31,6 +31,13 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Combine partial aggregation of another aggregation unit with same type.
+     * 
+     * @param aggregationUnit aggregation unit to be combined
+     */
+    void combine(AggregationUnit aggregationUnit);
+    
     /**
      * Get aggregation result.
      * 
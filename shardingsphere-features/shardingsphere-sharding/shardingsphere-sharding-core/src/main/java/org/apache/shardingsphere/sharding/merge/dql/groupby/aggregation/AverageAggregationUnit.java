@@ -48,6 +48,16 @@ public final class AverageAggregationUnit implements AggregationUnit {
         sum = sum.add(new BigDecimal(values.get(1).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        AverageAggregationUnit other = (AverageAggregationUnit) aggregationUnit;
+        if (null == other.count) {
+            return;
+        }
+        count = null == count ? other.count : count.add(other.count);
+        sum = null == sum ? other.sum : sum.add(other.sum);
+    }
+    
     @Override
     public Comparable<?> getResult() {
         if (null == count || BigDecimal.ZERO.equals(count)) {
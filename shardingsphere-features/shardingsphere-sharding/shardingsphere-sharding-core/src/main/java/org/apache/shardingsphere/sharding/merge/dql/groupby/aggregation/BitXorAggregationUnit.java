@@ -41,6 +41,14 @@ public final class BitXorAggregationUnit implements AggregationUnit {
         result = result.xor(new BigInteger(values.get(0).toString()));
     }
     
+    @Override
+    public void combine(final AggregationUnit aggregationUnit) {
+        BigInteger otherResult = ((BitXorAggregationUnit) aggregationUnit).result;
+        if (null != otherResult) {
+            result = null == result ? otherResult : result.xor(otherResult);
+        }
+    }
+    
     @Override
     public Comparable<?> getResult() {
         return result;
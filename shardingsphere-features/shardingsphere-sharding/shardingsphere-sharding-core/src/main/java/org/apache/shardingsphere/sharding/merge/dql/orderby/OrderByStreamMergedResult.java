@@ -36,6 +36,8 @@ import java.util.Queue;
  */
 public class OrderByStreamMergedResult extends StreamMergedResult {
     
+    private static final int LOSER_TREE_MIN_QUERY_RESULT_SIZE = 16;
+    
     private final Collection<OrderByItem> orderByItems;
     
     @Getter(AccessLevel.PROTECTED)
@@ -46,14 +48,15 @@ public class OrderByStreamMergedResult extends StreamMergedResult {
     
     public OrderByStreamMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         orderByItems = selectStatementContext.getOrderByContext().getItems();
-        orderByValuesQueue = new PriorityQueue<>(queryResults.size());
+        orderByValuesQueue = queryResults.size() < LOSER_TREE_MIN_QUERY_RESULT_SIZE ? new PriorityQueue<>(queryResults.size()) : new OrderByValueLoserTree(queryResults.size());
         orderResultSetsToQueue(queryResults, selectStatementContext, schema);
         isFirstNext = true;
     }
     
     private void orderResultSetsToQueue(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> orderValuesCaseSensitive = OrderByValue.getOrderValuesCaseSensitive(queryResults.get(0), orderByItems, selectStatementContext, schema);
         for (QueryResult each : queryResults) {
-            OrderByValue orderByValue = new OrderByValue(each, orderByItems, selectStatementContext, schema);
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems, orderValuesCaseSensitive);
             if (orderByValue.next()) {
                 orderByValuesQueue.offer(orderByValue);
             }
@@ -53,21 +53,36 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        this(queryResult, orderByItems, getOrderValuesCaseSensitive(queryResult, orderByItems, selectStatementContext, schema));
+    }
+    
+    public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems, final List<Boolean> orderValuesCaseSensitive) {
         this.queryResult = queryResult;
         this.orderByItems = orderByItems;
-        orderValuesCaseSensitive = getOrderValuesCaseSensitive(selectStatementContext, schema);
+        this.orderValuesCaseSensitive = orderValuesCaseSensitive;
     }
     
-    private List<Boolean> getOrderValuesCaseSensitive(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+    /**
+     * Get order values case sensitive.
+     * 
+     * @param queryResult query result
+     * @param orderByItems order by items
+     * @param selectStatementContext select statement context
+     * @param schema ShardingSphere schema
+     * @return order values case sensitive
+     * @throws SQLException SQL exception
+     */
+    public static List<Boolean> getOrderValuesCaseSensitive(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
+                                                            final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         List<Boolean> result = new ArrayList<>(orderByItems.size());
         for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(selectStatementContext, schema, eachOrderByItem));
+            result.add(getOrderValuesCaseSensitiveFromTables(queryResult, selectStatementContext, schema, eachOrderByItem));
         }
         return result;
     }
     
-    private boolean getOrderValuesCaseSensitiveFromTables(final SelectStatementContext selectStatementContext,
-                                                          final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
+    private static boolean getOrderValuesCaseSensitiveFromTables(final QueryResult queryResult, final SelectStatementContext selectStatementContext,
+                                                                 final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
         for (SimpleTableSegment eachSimpleTableSegment : selectStatementContext.getAllTables()) {
             String tableName = eachSimpleTableSegment.getTableName().getIdentifier().getValue();
             TableMetaData tableMetaData = schema.get(tableName);
@@ -105,10 +120,12 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private List<Comparable<?>> getOrderValues() throws SQLException {
         List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
+        int i = 0;
         for (OrderByItem each : orderByItems) {
             Object value = queryResult.getValue(each.getIndex(), Object.class);
             Preconditions.checkState(null == value || value instanceof Comparable, "Order by value must implements Comparable");
-            result.add((Comparable<?>) value);
+            result.add(value instanceof String && !orderValuesCaseSensitive.get(i) ? ((String) value).toUpperCase() : (Comparable<?>) value);
+            i++;
         }
         return result;
     }
@@ -117,8 +134,9 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     public int compareTo(final OrderByValue o) {
         int i = 0;
         for (OrderByItem each : orderByItems) {
+            // case insensitive values are already upper cased by getOrderValues
             int result = CompareUtil.compareTo(orderValues.get(i), o.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullOrderDirection(), orderValuesCaseSensitive.get(i));
+                    each.getSegment().getNullOrderDirection(), true);
             if (0 != result) {
                 return result;
             }
@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import com.google.common.base.Preconditions;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>
+ * Each query result is a leaf of tournament tree, re-offering the polled order by value costs one comparison per tree level.
+ * After the first poll or peek, only the last polled order by value can be offered back, which matches k-way merge usage.
+ * Equal order by values are returned in order of their first offering.
+ * </p>
+ */
+public final class OrderByValueLoserTree extends AbstractQueue<OrderByValue> {
+    
+    private final OrderByValue[] leaves;
+    
+    private final int[] tree;
+    
+    private int size;
+    
+    private boolean built;
+    
+    private int polledLeafIndex = -1;
+    
+    public OrderByValueLoserTree(final int capacity) {
+        leaves = new OrderByValue[capacity];
+        tree = new int[Math.max(capacity, 1)];
+    }
+    
+    @Override
+    public boolean offer(final OrderByValue orderByValue) {
+        Preconditions.checkNotNull(orderByValue);
+        if (!built) {
+            Preconditions.checkState(size < leaves.length, "Loser tree is full.");
+            leaves[size++] = orderByValue;
+            return true;
+        }
+        Preconditions.checkState(-1 != polledLeafIndex, "Only polled order by value can be offered back to loser tree.");
+        leaves[polledLeafIndex] = orderByValue;
+        size++;
+        replay(polledLeafIndex);
+        polledLeafIndex = -1;
+        return true;
+    }
+    
+    @Override
+    public OrderByValue poll() {
+        settle();
+        if (0 == size) {
+            return null;
+        }
+        int winner = tree[0];
+        OrderByValue result = leaves[winner];
+        leaves[winner] = null;
+        size--;
+        polledLeafIndex = winner;
+        return result;
+    }
+    
+    @Override
+    public OrderByValue peek() {
+        settle();
+        return 0 == size ? null : leaves[tree[0]];
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+    
+    @Override
+    public Iterator<OrderByValue> iterator() {
+        return Arrays.stream(leaves).filter(Objects::nonNull).iterator();
+    }
+    
+    private void settle() {
+        if (!built) {
+            Arrays.fill(tree, leaves.length);
+            for (int i = leaves.length - 1; i >= 0; i--) {
+                replay(i);
+            }
+            built = true;
+        } else if (-1 != polledLeafIndex) {
+            replay(polledLeafIndex);
+            polledLeafIndex = -1;
+        }
+    }
+    
+    private void replay(final int leafIndex) {
+        int winner = leafIndex;
+        for (int node = (leafIndex + leaves.length) / 2; node > 0; node /= 2) {
+            if (isLoser(winner, tree[node])) {
+                int loser = winner;
+                winner = tree[node];
+                tree[node] = loser;
+            }
+        }
+        tree[0] = winner;
+    }
+    
+    private boolean isLoser(final int leafIndex, final int otherLeafIndex) {
+        if (leaves.length == otherLeafIndex) {
+            return true;
+        }
+        if (leaves.length == leafIndex) {
+            return false;
+        }
+        OrderByValue value = leaves[leafIndex];
+        OrderByValue otherValue = leaves[otherLeafIndex];
+        if (null == value) {
+            return null != otherValue || leafIndex > otherLeafIndex;
+        }
+        if (null == otherValue) {
+            return false;
+        }
+        int result = value.compareTo(otherValue);
+        return 0 == result ? leafIndex > otherLeafIndex : result > 0;
+    }
+}
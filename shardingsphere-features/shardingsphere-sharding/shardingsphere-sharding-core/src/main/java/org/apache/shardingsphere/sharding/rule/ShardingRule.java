@@ -19,6 +19,7 @@ package org.apache.shardingsphere.sharding.rule;
 
 import com.google.common.base.Preconditions;
 import com.google.common.base.Splitter;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.commons.lang.StringUtils;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
@@ -45,6 +46,9 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardS
 import org.apache.shardingsphere.sharding.api.sharding.ShardingAutoTableAlgorithm;
 import org.apache.shardingsphere.sharding.factory.KeyGenerateAlgorithmFactory;
 import org.apache.shardingsphere.sharding.factory.ShardingAlgorithmFactory;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
 import org.apache.shardingsphere.sharding.spi.KeyGenerateAlgorithm;
 import org.apache.shardingsphere.sharding.spi.ShardingAlgorithm;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
@@ -60,6 +64,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -102,6 +107,12 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
     
     private final Map<String, Collection<DataNode>> shardingTableDataNodes;
     
+    @Getter(AccessLevel.NONE)
+    private final Map<TableRule, ShardingStrategy> databaseShardingStrategies;
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<TableRule, ShardingStrategy> tableShardingStrategies;
+    
     public ShardingRule(final ShardingRuleConfiguration config, final Collection<String> dataSourceNames) {
         this.dataSourceNames = getDataSourceNames(config.getTables(), config.getAutoTables(), dataSourceNames);
         config.getShardingAlgorithms().forEach((key, value) -> shardingAlgorithms.put(key, ShardingAlgorithmFactory.newInstance(value)));
@@ -117,6 +128,8 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        databaseShardingStrategies = createShardingStrategies(tableRules, this::getDatabaseShardingStrategyConfiguration);
+        tableShardingStrategies = createShardingStrategies(tableRules, this::getTableShardingStrategyConfiguration);
         Preconditions.checkArgument(isValidBindingTableConfiguration(config.getBindingTableGroups()), "Invalid binding table configuration in ShardingRuleConfiguration.");
     }
     
@@ -135,6 +148,8 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
                 : keyGenerators.get(config.getDefaultKeyGenerateStrategy().getKeyGeneratorName());
         defaultShardingColumn = config.getDefaultShardingColumn();
         shardingTableDataNodes = createShardingTableDataNodes(tableRules);
+        databaseShardingStrategies = createShardingStrategies(tableRules, this::getDatabaseShardingStrategyConfiguration);
+        tableShardingStrategies = createShardingStrategies(tableRules, this::getTableShardingStrategyConfiguration);
         Preconditions.checkArgument(isValidBindingTableConfiguration(config.getBindingTableGroups()), "Invalid binding table configuration in ShardingRuleConfiguration.");
     }
     
@@ -146,6 +161,19 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return result;
     }
     
+    private Map<TableRule, ShardingStrategy> createShardingStrategies(final Map<String, TableRule> tableRules, final Function<TableRule, ShardingStrategyConfiguration> shardingStrategyConfigGetter) {
+        Map<TableRule, ShardingStrategy> result = new IdentityHashMap<>(tableRules.size());
+        for (TableRule each : tableRules.values()) {
+            result.put(each, createShardingStrategy(shardingStrategyConfigGetter.apply(each)));
+        }
+        return result;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingAlgorithms.get(shardingStrategyConfig.getShardingAlgorithmName()), defaultShardingColumn);
+    }
+    
     private Collection<String> getDataSourceNames(final Collection<ShardingTableRuleConfiguration> tableRuleConfigs,
                                                   final Collection<ShardingAutoTableRuleConfiguration> autoTableRuleConfigs, final Collection<String> dataSourceNames) {
         if (tableRuleConfigs.isEmpty() && autoTableRuleConfigs.isEmpty()) {
@@ -310,6 +338,32 @@ public final class ShardingRule implements SchemaRule, DataNodeContainedRule, Ta
         return null == tableRule.getTableShardingStrategyConfig() ? defaultTableShardingStrategyConfig : tableRule.getTableShardingStrategyConfig();
     }
     
+    /**
+     * Get database sharding strategy.
+     * 
+     * <p>Strategies of configured table rules are built once with sharding rule, other table rules get a new strategy on each call.</p>
+     *
+     * @param tableRule table rule
+     * @return database sharding strategy
+     */
+    public ShardingStrategy getDatabaseShardingStrategy(final TableRule tableRule) {
+        ShardingStrategy result = databaseShardingStrategies.get(tableRule);
+        return null == result ? createShardingStrategy(getDatabaseShardingStrategyConfiguration(tableRule)) : result;
+    }
+    
+    /**
+     * Get table sharding strategy.
+     * 
+     * <p>Strategies of configured table rules are built once with sharding rule, other table rules get a new strategy on each call.</p>
+     *
+     * @param tableRule table rule
+     * @return table sharding strategy
+     */
+    public ShardingStrategy getTableShardingStrategy(final TableRule tableRule) {
+        ShardingStrategy result = tableShardingStrategies.get(tableRule);
+        return null == result ? createShardingStrategy(getTableShardingStrategyConfiguration(tableRule)) : result;
+    }
+    
     /**
      * Find table rule.
      *
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.algorithm.sharding.inline;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class InlineShardingExpressionEvaluatorTest {
+    
+    @Test
+    public void assertEvaluateCompiledModuloExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id % 16}");
+        assertThat(evaluator.evaluate("order_id", 17), is("t_order_1"));
+        assertThat(evaluator.evaluate("order_id", 33L), is("t_order_1"));
+        assertThat(evaluator.evaluate("order_id", -17), is("t_order_-1"));
+    }
+    
+    @Test
+    public void assertEvaluateCompiledVariableExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("ds_${value}");
+        assertThat(evaluator.evaluate("value", 3), is("ds_3"));
+    }
+    
+    @Test
+    public void assertEvaluateCompiledExpressionWithNotIntegralValue() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id}");
+        assertThat(evaluator.evaluate("order_id", "a"), is("t_order_a"));
+    }
+    
+    @Test
+    public void assertEvaluateNotCompiledExpression() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${order_id.hashCode() % 4}");
+        assertThat(evaluator.evaluate("order_id", 5), is("t_order_1"));
+        assertThat(evaluator.evaluate("order_id", 6), is("t_order_2"));
+    }
+    
+    @Test
+    public void assertEvaluateWithMultipleVariables() {
+        InlineShardingExpressionEvaluator evaluator = new InlineShardingExpressionEvaluator("t_order_${type % 2}_${order_id % 2}");
+        Map<String, Comparable<?>> variables = new HashMap<>(2, 1);
+        variables.put("type", 1);
+        variables.put("order_id", 2);
+        assertThat(evaluator.evaluate(variables), is("t_order_1_0"));
+    }
+}
@@ -20,7 +20,11 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 import org.apache.shardingsphere.infra.binder.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.DefaultSchema;
 import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
@@ -41,10 +45,13 @@ import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.Identifi
 import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
 import org.junit.Test;
 
+import java.io.IOException;
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -53,6 +60,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 public final class GroupByMemoryMergedResultTest {
@@ -101,6 +109,93 @@ public final class GroupByMemoryMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    public void assertNextWithSpill() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 3, null, 0);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createRawQueryResult(50), createRawQueryResult(50), createRawQueryResult(20)), createSelectStatementContext(), null);
+        for (int id = 50; id > 0; id--) {
+            int count = id > 20 ? 2 : 3;
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+            assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+            assertThat(actual.getValue(3, Object.class), is(id));
+            assertThat(actual.getValue(4, Object.class), is(new BigDecimal(count)));
+            assertThat(actual.getValue(5, Object.class), is(new BigDecimal(count * 10)));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    public void assertNextWithSpillExceedingMaxMergeFanIn() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 1, null, 0);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createRawQueryResult(500), createRawQueryResult(300)), createSelectStatementContext(), null);
+        for (int id = 500; id > 0; id--) {
+            int count = id > 300 ? 1 : 2;
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+            assertThat(actual.getValue(3, Object.class), is(id));
+        }
+        assertFalse(actual.next());
+    }
+    
+    @Test(expected = IOException.class)
+    public void assertNextAfterCloseWithSpill() throws SQLException {
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 3, null, 0);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createRawQueryResult(50), createRawQueryResult(50), createRawQueryResult(20)), createSelectStatementContext(), null);
+        assertTrue(actual.next());
+        actual.close();
+        while (actual.next()) {
+            actual.getValue(3, Object.class);
+        }
+    }
+    
+    @Test
+    public void assertNextWithParallelAggregation() throws SQLException {
+        try (ExecutorEngine executorEngine = new ExecutorEngine(2)) {
+            ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 0, executorEngine, 0);
+            MergedResult actual = resultMerger.merge(Arrays.asList(createRawQueryResult(30), createRawQueryResult(10), createRawQueryResult(20),
+                    createRawQueryResult(30), createRawQueryResult(20)), createSelectStatementContext(), null);
+            for (int id = 30; id > 0; id--) {
+                int count = id > 20 ? 2 : id > 10 ? 4 : 5;
+                assertTrue(actual.next());
+                assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+                assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(10));
+                assertThat(actual.getValue(3, Object.class), is(id));
+                assertThat(actual.getValue(4, Object.class), is(new BigDecimal(count)));
+                assertThat(actual.getValue(5, Object.class), is(new BigDecimal(count * 10)));
+            }
+            assertFalse(actual.next());
+        }
+    }
+    
+    @Test
+    public void assertNextWithParallelAggregationBelowMinRowCount() throws SQLException {
+        ExecutorEngine executorEngine = mock(ExecutorEngine.class);
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(DatabaseTypeRegistry.getActualDatabaseType("MySQL"), 0, executorEngine, 100);
+        MergedResult actual = resultMerger.merge(Arrays.asList(createRawQueryResult(30), createRawQueryResult(20)), createSelectStatementContext(), null);
+        for (int id = 30; id > 0; id--) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(3, Object.class), is(id));
+        }
+        assertFalse(actual.next());
+        verifyNoInteractions(executorEngine);
+    }
+    
+    private QueryResult createRawQueryResult(final int groupSize) throws SQLException {
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(metaData.getColumnCount()).thenReturn(5);
+        when(metaData.getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(metaData.getColumnLabel(2)).thenReturn("AVG(num)");
+        when(metaData.getColumnLabel(3)).thenReturn("id");
+        when(metaData.getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(metaData.getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        List<MemoryQueryResultDataRow> rows = new ArrayList<>(groupSize);
+        for (int id = 1; id <= groupSize; id++) {
+            rows.add(new MemoryQueryResultDataRow(Arrays.asList(1, 10, id, 1, 10)));
+        }
+        return new RawMemoryQueryResult(metaData, rows);
+    }
+    
     private SelectStatementContext createSelectStatementContext() {
         SelectStatement selectStatement = new MySQLSelectStatement();
         ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.sql.SQLException;
+import java.util.Iterator;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class GroupBySpillFileTest {
+    
+    @Test
+    public void assertWriteAndRead() throws SQLException {
+        GroupBySpillFile spillFile = new GroupBySpillFile();
+        spillFile.write(new Object[]{1, "foo"});
+        spillFile.write(new Object[]{2, "bar"});
+        Iterator<Object[]> actual = spillFile.read();
+        assertArrayEquals(new Object[]{1, "foo"}, actual.next());
+        assertArrayEquals(new Object[]{2, "bar"}, actual.next());
+        assertFalse(actual.hasNext());
+    }
+    
+    @Test
+    public void assertCloseWithoutRead() throws SQLException {
+        int originalSpillFileCount = countSpillFiles();
+        GroupBySpillFile spillFile = new GroupBySpillFile();
+        spillFile.write(new Object[]{1, "foo"});
+        spillFile.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    @Test
+    public void assertCloseWithPartialRead() throws SQLException {
+        int originalSpillFileCount = countSpillFiles();
+        GroupBySpillFile spillFile = new GroupBySpillFile();
+        spillFile.write(new Object[]{1, "foo"});
+        spillFile.write(new Object[]{2, "bar"});
+        assertArrayEquals(new Object[]{1, "foo"}, spillFile.read().next());
+        spillFile.close();
+        assertThat(countSpillFiles(), is(originalSpillFileCount));
+    }
+    
+    private int countSpillFiles() {
+        String[] result = new File(System.getProperty("java.io.tmpdir")).list((dir, name) -> name.startsWith("shardingsphere-group-by-"));
+        return null == result ? 0 : result.length;
+    }
+}
@@ -47,4 +47,17 @@ public final class AverageAggregationUnitTest {
         avgAggregationUnit.merge(Arrays.asList(0, 40));
         assertThat(avgAggregationUnit.getResult(), is(new BigDecimal(0)));
     }
+    
+    @Test
+    public void assertCombine() {
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
+        avgAggregationUnit.merge(Arrays.asList(10, 50));
+        AverageAggregationUnit emptyAggregationUnit = new AverageAggregationUnit();
+        avgAggregationUnit.combine(emptyAggregationUnit);
+        AverageAggregationUnit otherAggregationUnit = new AverageAggregationUnit();
+        otherAggregationUnit.merge(Arrays.asList(10, 20));
+        otherAggregationUnit.merge(Arrays.asList(5, 40));
+        avgAggregationUnit.combine(otherAggregationUnit);
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("4.4000")));
+    }
 }
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class OrderByValueLoserTreeTest {
+    
+    @Test
+    public void assertPollWithEmptyTree() {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(0);
+        assertTrue(loserTree.isEmpty());
+        assertThat(loserTree.peek(), nullValue());
+        assertThat(loserTree.poll(), nullValue());
+    }
+    
+    @Test
+    public void assertMergeInOrder() throws SQLException {
+        Collection<OrderByItem> orderByItems = Collections.singletonList(createOrderByItem());
+        List<QueryResult> queryResults = new ArrayList<>(20);
+        for (int i = 0; i < 20; i++) {
+            queryResults.add(createQueryResult(i, i + 20, i + 40));
+        }
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(queryResults.size());
+        for (QueryResult each : queryResults) {
+            OrderByValue orderByValue = new OrderByValue(each, orderByItems, Collections.singletonList(false));
+            assertTrue(orderByValue.next());
+            loserTree.offer(orderByValue);
+        }
+        assertThat(loserTree.size(), is(20));
+        for (int i = 0; i < 60; i++) {
+            OrderByValue orderByValue = loserTree.poll();
+            assertThat(orderByValue.getQueryResult(), is(queryResults.get(i % 20)));
+            if (orderByValue.next()) {
+                loserTree.offer(orderByValue);
+            }
+        }
+        assertTrue(loserTree.isEmpty());
+        assertThat(loserTree.poll(), nullValue());
+    }
+    
+    @Test
+    public void assertPollEqualValuesInOfferOrder() throws SQLException {
+        Collection<OrderByItem> orderByItems = Collections.singletonList(createOrderByItem());
+        List<OrderByValue> orderByValues = new ArrayList<>(5);
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(5);
+        for (int i = 0; i < 5; i++) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(1), orderByItems, Collections.singletonList(false));
+            assertTrue(orderByValue.next());
+            orderByValues.add(orderByValue);
+            loserTree.offer(orderByValue);
+        }
+        for (OrderByValue each : orderByValues) {
+            assertThat(loserTree.peek(), is(each));
+            assertThat(loserTree.poll(), is(each));
+        }
+        assertTrue(loserTree.isEmpty());
+    }
+    
+    @Test(expected = IllegalStateException.class)
+    public void assertOfferWithoutPoll() throws SQLException {
+        OrderByValueLoserTree loserTree = new OrderByValueLoserTree(1);
+        OrderByValue orderByValue = new OrderByValue(createQueryResult(1), Collections.singletonList(createOrderByItem()), Collections.singletonList(false));
+        assertTrue(orderByValue.next());
+        loserTree.offer(orderByValue);
+        loserTree.peek();
+        loserTree.offer(orderByValue);
+    }
+    
+    private QueryResult createQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        Boolean[] nextResults = new Boolean[values.length];
+        for (int i = 0; i < values.length; i++) {
+            nextResults[i] = i < values.length - 1;
+        }
+        when(result.next()).thenReturn(true, nextResults);
+        when(result.getValue(1, Object.class)).thenReturn(values[0], (Object[]) copyTail(values));
+        return result;
+    }
+    
+    private Integer[] copyTail(final Integer[] values) {
+        Integer[] result = new Integer[values.length - 1];
+        System.arraycopy(values, 1, result, 0, result.length);
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem() {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, OrderDirection.ASC));
+        result.setIndex(1);
+        return result;
+    }
+}
@@ -38,6 +38,9 @@ import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ComplexSh
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.NoneShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
 import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.standard.StandardShardingStrategy;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
@@ -62,6 +65,7 @@ import java.util.TreeSet;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
@@ -724,6 +728,21 @@ public final class ShardingRuleTest {
         assertThat(tableShardingStrategyConfiguration.getShardingAlgorithmName(), is("table_inline"));
     }
     
+    @Test
+    public void assertGetShardingStrategy() {
+        ShardingRuleConfiguration shardingRuleConfig = new ShardingRuleConfiguration();
+        shardingRuleConfig.getTables().add(createTableRuleConfigWithAllStrategies());
+        shardingRuleConfig.getShardingAlgorithms().put("standard", new ShardingSphereAlgorithmConfiguration("STANDARD_TEST", new Properties()));
+        ShardingRule actual = new ShardingRule(shardingRuleConfig, createDataSourceNames());
+        TableRule tableRule = actual.getTableRule("logic_table");
+        ShardingStrategy databaseShardingStrategy = actual.getDatabaseShardingStrategy(tableRule);
+        assertThat(databaseShardingStrategy, instanceOf(StandardShardingStrategy.class));
+        assertTrue(databaseShardingStrategy.getShardingColumns().contains("column"));
+        assertThat(actual.getDatabaseShardingStrategy(tableRule), sameInstance(databaseShardingStrategy));
+        assertThat(actual.getTableShardingStrategy(tableRule), instanceOf(NoneShardingStrategy.class));
+        assertThat(actual.getTableShardingStrategy(tableRule), sameInstance(actual.getTableShardingStrategy(tableRule)));
+    }
+    
     @Test
     public void assertIsGenerateKeyColumn() {
         ShardingRule actual = createMaximumShardingRule();
@@ -47,11 +47,34 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Available options of kernel executor type: PLATFORM(default), VIRTUAL. The VIRTUAL option runs SQL on virtual threads if JVM supports,
+     * and {@link ConfigurationPropertyKey#KERNEL_EXECUTOR_SIZE} limits the max concurrent running SQL per data source.
+     */
+    KERNEL_EXECUTOR_TYPE("kernel-executor-type", "PLATFORM", String.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Max groups kept in memory by group by merge for each query, rows of other groups are spilled to temporary files.
+     * It limits the count of groups, not bytes.
+     * Less than or equal to 0 means no limitation.
+     */
+    MAX_MEMORY_GROUP_SIZE_PER_QUERY("max-memory-group-size-per-query", String.valueOf(0), int.class, false),
+    
+    /**
+     * Whether aggregate group by merge of query results loaded in memory in parallel by kernel executor.
+     */
+    PARALLEL_GROUP_BY_MERGE_ENABLED("parallel-group-by-merge-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Min total row count of query results to aggregate group by merge in parallel, smaller query results are aggregated serially.
+     */
+    PARALLEL_GROUP_BY_MERGE_MIN_ROW_COUNT("parallel-group-by-merge-min-row-count", String.valueOf(10000), int.class, false),
+    
     /**
      * Whether validate table meta data consistency when application startup or updated.
      */
@@ -109,6 +132,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_MAX_CONNECTIONS("proxy-frontend-max-connections", "0", int.class, false),
     
+    /**
+     * Available options of proxy frontend connection thread type: PLATFORM(default), VIRTUAL. The VIRTUAL option binds each connection to a virtual thread instead of a platform thread
+     * if JVM supports.
+     */
+    PROXY_FRONTEND_CONNECTION_THREAD_TYPE("proxy-frontend-connection-thread-type", "PLATFORM", String.class, true),
+    
     /**
      * Whether enable sql federation.
      */
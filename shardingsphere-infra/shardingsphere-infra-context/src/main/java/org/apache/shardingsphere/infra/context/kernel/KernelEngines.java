@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+
+/**
+ * Kernel engines, hold route engine and rewrite entry which are reusable for same rules, schema and props.
+ * 
+ * <p>They are not an execution plan of SQL, route context and rewrite result are still generated for each execution.</p>
+ */
+@Getter
+public final class KernelEngines {
+    
+    private final Collection<ShardingSphereRule> rules;
+    
+    private final ShardingSphereSchema schema;
+    
+    private final ConfigurationProperties props;
+    
+    private final SQLRouteEngine routeEngine;
+    
+    private final SQLRewriteEntry rewriteEntry;
+    
+    public KernelEngines(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        rules = new ArrayList<>(metaData.getRuleMetaData().getRules());
+        schema = metaData.getDefaultSchema();
+        this.props = props;
+        routeEngine = new SQLRouteEngine(rules, props);
+        rewriteEntry = new SQLRewriteEntry(metaData.getName(), schema, props, rules);
+    }
+    
+    /**
+     * Judge whether kernel engines are still valid for meta data and props.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @return kernel engines are valid or not
+     */
+    public boolean isValid(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        return this.props == props && schema == metaData.getDefaultSchema() && isSameRules(metaData.getRuleMetaData().getRules());
+    }
+    
+    private boolean isSameRules(final Collection<ShardingSphereRule> currentRules) {
+        if (rules.size() != currentRules.size()) {
+            return false;
+        }
+        Iterator<ShardingSphereRule> iterator = rules.iterator();
+        for (ShardingSphereRule each : currentRules) {
+            if (each != iterator.next()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
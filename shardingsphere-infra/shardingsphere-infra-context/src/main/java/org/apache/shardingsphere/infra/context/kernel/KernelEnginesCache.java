@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+
+/**
+ * Kernel engines cache.
+ * 
+ * <p>Kernel engines are weakly keyed by meta data instance, so meta data replaced by context manager will be released automatically.
+ * Kernel engines built before rules, default schema or props changed are rebuilt on next access, including rules refreshed in place by context manager,
+ * so no explicit invalidation is needed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KernelEnginesCache {
+    
+    private static final Cache<ShardingSphereMetaData, KernelEngines> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+    
+    /**
+     * Get kernel engines.
+     * 
+     * @param metaData ShardingSphere meta data
+     * @param props configuration properties
+     * @return kernel engines
+     */
+    public static KernelEngines get(final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
+        KernelEngines result = CACHE.getIfPresent(metaData);
+        if (null == result || !result.isValid(metaData, props)) {
+            result = new KernelEngines(metaData, props);
+            CACHE.put(metaData, result);
+        }
+        return result;
+    }
+}
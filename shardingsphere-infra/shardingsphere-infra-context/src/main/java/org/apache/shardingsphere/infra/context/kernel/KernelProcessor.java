@@ -24,10 +24,8 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
 import org.apache.shardingsphere.infra.executor.sql.log.SQLLogger;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
-import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
 import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
-import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 
 /**
  * Kernel processor.
@@ -43,20 +41,20 @@ public final class KernelProcessor {
      * @return execution context
      */
     public ExecutionContext generateExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        RouteContext routeContext = route(logicSQL, metaData, props);
-        SQLRewriteResult rewriteResult = rewrite(logicSQL, metaData, props, routeContext);
+        KernelEngines kernelEngines = KernelEnginesCache.get(metaData, props);
+        RouteContext routeContext = route(logicSQL, metaData, kernelEngines);
+        SQLRewriteResult rewriteResult = rewrite(logicSQL, kernelEngines, routeContext);
         ExecutionContext result = createExecutionContext(logicSQL, metaData, routeContext, rewriteResult);
         logSQL(logicSQL, props, result);
         return result;
     }
     
-    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props) {
-        return new SQLRouteEngine(metaData.getRuleMetaData().getRules(), props).route(logicSQL, metaData);
+    private RouteContext route(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final KernelEngines kernelEngines) {
+        return kernelEngines.getRouteEngine().route(logicSQL, metaData);
     }
     
-    private SQLRewriteResult rewrite(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(metaData.getName(), metaData.getDefaultSchema(), props, metaData.getRuleMetaData().getRules());
-        return sqlRewriteEntry.rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
+    private SQLRewriteResult rewrite(final LogicSQL logicSQL, final KernelEngines kernelEngines, final RouteContext routeContext) {
+        return kernelEngines.getRewriteEntry().rewrite(logicSQL.getSql(), logicSQL.getParameters(), logicSQL.getSqlStatementContext(), routeContext);
     }
     
     private ExecutionContext createExecutionContext(final LogicSQL logicSQL, final ShardingSphereMetaData metaData, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
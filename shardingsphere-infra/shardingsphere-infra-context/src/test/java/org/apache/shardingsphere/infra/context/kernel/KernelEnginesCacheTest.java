@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.context.kernel;
+
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+
+public final class KernelEnginesCacheTest {
+    
+    @Test
+    public void assertGetWithSameMetaData() {
+        ShardingSphereMetaData metaData = createMetaData(new LinkedList<>());
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        assertThat(KernelEnginesCache.get(metaData, props), is(KernelEnginesCache.get(metaData, props)));
+    }
+    
+    @Test
+    public void assertGetWithChangedProps() {
+        ShardingSphereMetaData metaData = createMetaData(new LinkedList<>());
+        KernelEngines actual = KernelEnginesCache.get(metaData, new ConfigurationProperties(new Properties()));
+        assertThat(KernelEnginesCache.get(metaData, new ConfigurationProperties(new Properties())), not(actual));
+    }
+    
+    @Test
+    public void assertGetWithChangedRules() {
+        Collection<ShardingSphereRule> rules = new LinkedList<>();
+        ShardingSphereMetaData metaData = createMetaData(rules);
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        KernelEngines actual = KernelEnginesCache.get(metaData, props);
+        rules.add(mock(ShardingSphereRule.class));
+        assertThat(KernelEnginesCache.get(metaData, props), not(actual));
+    }
+    
+    @Test
+    public void assertGetWithRulesRefreshedInPlace() {
+        Collection<ShardingSphereRule> rules = new LinkedList<>();
+        rules.add(mock(ShardingSphereRule.class));
+        ShardingSphereMetaData metaData = createMetaData(rules);
+        ConfigurationProperties props = new ConfigurationProperties(new Properties());
+        KernelEngines actual = KernelEnginesCache.get(metaData, props);
+        rules.clear();
+        rules.add(mock(ShardingSphereRule.class));
+        assertThat(KernelEnginesCache.get(metaData, props), not(actual));
+    }
+    
+    private ShardingSphereMetaData createMetaData(final Collection<ShardingSphereRule> rules) {
+        return new ShardingSphereMetaData("logic_db", mock(ShardingSphereResource.class, RETURNS_DEEP_STUBS), new ShardingSphereRuleMetaData(Collections.emptyList(), rules), Collections.emptyMap());
+    }
+}
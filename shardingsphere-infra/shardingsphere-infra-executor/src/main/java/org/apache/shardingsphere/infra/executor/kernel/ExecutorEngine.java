@@ -25,6 +25,8 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupConte
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorDataMap;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutionUnit;
 
 import java.sql.SQLException;
 import java.util.Collection;
@@ -44,7 +46,11 @@ public final class ExecutorEngine implements AutoCloseable {
     private final ExecutorServiceManager executorServiceManager;
     
     public ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+        this(executorSize, ExecutorServiceType.PLATFORM);
+    }
+    
+    public ExecutorEngine(final int executorSize, final ExecutorServiceType executorServiceType) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorServiceType);
     }
     
     /**
@@ -111,7 +117,15 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private <I, O> ListenableFuture<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutorCallback<I, O> callback) {
         Map<String, Object> dataMap = ExecutorDataMap.getValue();
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, dataMap));
+        return executorServiceManager.getMeteredExecutorService().submit(getDataSourceName(executionGroup), () -> callback.execute(executionGroup.getInputs(), false, dataMap));
+    }
+    
+    private <I> String getDataSourceName(final ExecutionGroup<I> executionGroup) {
+        if (executionGroup.getInputs().isEmpty()) {
+            return null;
+        }
+        I firstInput = executionGroup.getInputs().get(0);
+        return firstInput instanceof SQLExecutionUnit ? ((SQLExecutionUnit) firstInput).getExecutionUnit().getDataSourceName() : null;
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<ListenableFuture<Collection<O>>> restFutures) throws SQLException {
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ListeningExecutorService;
 import com.google.common.util.concurrent.MoreExecutors;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -30,20 +31,34 @@ import java.util.concurrent.TimeUnit;
  * Executor service manager.
  */
 @Getter
+@Slf4j
 public final class ExecutorServiceManager {
     
     private static final String DEFAULT_NAME_FORMAT = "%d";
     
     private static final ExecutorService SHUTDOWN_EXECUTOR = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("Executor-Engine-Closer"));
     
+    private final MeteredExecutorService meteredExecutorService;
+    
     private final ListeningExecutorService executorService;
     
     public ExecutorServiceManager(final int executorSize) {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final ExecutorServiceType executorServiceType) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorServiceType);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = MoreExecutors.listeningDecorator(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, ExecutorServiceType.PLATFORM);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final ExecutorServiceType executorServiceType) {
+        meteredExecutorService = ExecutorServiceType.VIRTUAL == executorServiceType
+                ? new MeteredExecutorService(getVirtualThreadExecutorService(nameFormat), executorSize)
+                : new MeteredExecutorService(getExecutorService(executorSize, nameFormat), 0);
+        executorService = MoreExecutors.listeningDecorator(meteredExecutorService);
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -51,6 +66,15 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualThreadExecutorService(final String nameFormat) {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (final ReflectiveOperationException ex) {
+            log.warn("Virtual thread is not supported by current JVM, use cached thread pool instead.");
+            return getExecutorService(0, nameFormat);
+        }
+    }
+    
     /**
      * Close executor service.
      */
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+/**
+ * Executor service type.
+ */
+public enum ExecutorServiceType {
+    
+    /**
+     * Fixed or cached pool of platform threads.
+     */
+    PLATFORM,
+    
+    /**
+     * One virtual thread per task, requires Java 21 or above.
+     */
+    VIRTUAL;
+    
+    /**
+     * Get executor service type by name.
+     * 
+     * @param name executor service type name
+     * @return executor service type
+     */
+    public static ExecutorServiceType valueFrom(final String name) {
+        return null == name || name.isEmpty() ? PLATFORM : valueOf(name.trim().toUpperCase());
+    }
+}
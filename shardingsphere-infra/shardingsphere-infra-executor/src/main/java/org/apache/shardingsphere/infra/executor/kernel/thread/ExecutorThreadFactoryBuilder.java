@@ -21,6 +21,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
+import java.util.Optional;
 import java.util.concurrent.ThreadFactory;
 
 /**
@@ -51,4 +52,20 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name.
+     * 
+     * @param name thread name
+     * @return virtual thread factory, empty if current JVM does not support virtual thread
+     */
+    public static Optional<ThreadFactory> buildVirtual(final String name) {
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = builderClass.getMethod("name", String.class).invoke(Thread.class.getMethod("ofVirtual").invoke(null), NAME_FORMAT_PREFIX + name);
+            return Optional.of((ThreadFactory) builderClass.getMethod("factory").invoke(builder));
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ex) {
+            return Optional.empty();
+        }
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Metered executor service, counts queued, blocked and running tasks and limits concurrency of running tasks per data source.
+ */
+public final class MeteredExecutorService extends AbstractExecutorService {
+    
+    private final ExecutorService delegate;
+    
+    private final int maxConcurrencyPerDataSource;
+    
+    private final Map<String, Semaphore> concurrencyLimiters = new ConcurrentHashMap<>();
+    
+    private final AtomicInteger queuedTaskCount = new AtomicInteger();
+    
+    private final AtomicInteger blockedTaskCount = new AtomicInteger();
+    
+    private final AtomicInteger runningTaskCount = new AtomicInteger();
+    
+    public MeteredExecutorService(final ExecutorService delegate, final int maxConcurrencyPerDataSource) {
+        this.delegate = delegate;
+        this.maxConcurrencyPerDataSource = maxConcurrencyPerDataSource;
+    }
+    
+    @Override
+    public void execute(final Runnable command) {
+        enqueue(null, command);
+    }
+    
+    /**
+     * Submit task which executes on data source.
+     * 
+     * <p>Running tasks of same data source are limited by max concurrency per data source, the task is not limited if data source name is null.</p>
+     * 
+     * @param dataSourceName data source name
+     * @param task task to be submitted
+     * @param <T> type of task result
+     * @return future of task
+     */
+    public <T> ListenableFuture<T> submit(final String dataSourceName, final Callable<T> task) {
+        ListenableFutureTask<T> result = ListenableFutureTask.create(task);
+        enqueue(dataSourceName, result);
+        return result;
+    }
+    
+    private void enqueue(final String dataSourceName, final Runnable command) {
+        queuedTaskCount.incrementAndGet();
+        long enqueuedNanos = System.nanoTime();
+        try {
+            delegate.execute(() -> run(dataSourceName, command, enqueuedNanos));
+        } catch (final RuntimeException ex) {
+            queuedTaskCount.decrementAndGet();
+            throw ex;
+        }
+    }
+    
+    private void run(final String dataSourceName, final Runnable command, final long enqueuedNanos) {
+        queuedTaskCount.decrementAndGet();
+        Semaphore concurrencyLimiter = maxConcurrencyPerDataSource > 0 && null != dataSourceName
+                ? concurrencyLimiters.computeIfAbsent(dataSourceName, key -> new Semaphore(maxConcurrencyPerDataSource)) : null;
+        if (null == concurrencyLimiter) {
+            runWithMetrics(command, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedNanos));
+            return;
+        }
+        awaitConcurrencyLimiter(concurrencyLimiter);
+        try {
+            runWithMetrics(command, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - enqueuedNanos));
+        } finally {
+            concurrencyLimiter.release();
+        }
+    }
+    
+    private void awaitConcurrencyLimiter(final Semaphore concurrencyLimiter) {
+        blockedTaskCount.incrementAndGet();
+        try {
+            concurrencyLimiter.acquireUninterruptibly();
+        } finally {
+            blockedTaskCount.decrementAndGet();
+        }
+    }
+    
+    // The wait time millis argument is exported by agent metrics.
+    private void runWithMetrics(final Runnable command, final long waitTimeMillis) {
+        runningTaskCount.incrementAndGet();
+        try {
+            command.run();
+        } finally {
+            runningTaskCount.decrementAndGet();
+        }
+    }
+    
+    /**
+     * Get count of tasks submitted but not started.
+     * 
+     * @return queued task count
+     */
+    public int getQueuedTaskCount() {
+        return queuedTaskCount.get();
+    }
+    
+    /**
+     * Get count of tasks started but waiting for concurrency limiter of data source.
+     * 
+     * @return blocked task count
+     */
+    public int getBlockedTaskCount() {
+        return blockedTaskCount.get();
+    }
+    
+    /**
+     * Get count of running tasks.
+     * 
+     * @return running task count
+     */
+    public int getRunningTaskCount() {
+        return runningTaskCount.get();
+    }
+    
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+    
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+    
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+    
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+    
+    @Override
+    public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+}
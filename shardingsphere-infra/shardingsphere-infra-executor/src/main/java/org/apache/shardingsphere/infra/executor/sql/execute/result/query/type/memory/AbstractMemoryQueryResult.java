@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.ObjectOutputStream;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Iterator;
 
 /**
@@ -44,8 +45,15 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     
     private final Iterator<MemoryQueryResultDataRow> rows;
     
+    @Getter
+    private final int rowCount;
+    
     private MemoryQueryResultDataRow currentRow;
     
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+        this(metaData, rows.iterator(), rows.size());
+    }
+    
     @Override
     public final boolean next() {
         if (rows.hasNext()) {
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class ExecutorServiceManagerTest {
+    
+    @Test
+    public void assertCreatePlatformExecutorServiceManager() throws InterruptedException, ExecutionException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(2);
+        assertThat(executorServiceManager.getExecutorService().submit(() -> 1).get(), is(1));
+        executorServiceManager.close();
+    }
+    
+    @Test
+    public void assertCreateVirtualExecutorServiceManager() throws InterruptedException, ExecutionException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(2, ExecutorServiceType.VIRTUAL);
+        assertThat(executorServiceManager.getExecutorService().submit(() -> 1).get(), is(1));
+        assertThat(executorServiceManager.getMeteredExecutorService().submit("ds_0", () -> 2).get(), is(2));
+        executorServiceManager.close();
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class MeteredExecutorServiceTest {
+    
+    @Test
+    public void assertSubmitWithConcurrencyLimitOfSameDataSource() throws InterruptedException, ExecutionException {
+        MeteredExecutorService executorService = new MeteredExecutorService(Executors.newCachedThreadPool(), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        Future<?> first = executorService.submit("ds_0", () -> {
+            started.countDown();
+            awaitQuietly(finished);
+            return null;
+        });
+        started.await();
+        Future<Integer> second = executorService.submit("ds_0", () -> 1);
+        while (1 != executorService.getBlockedTaskCount()) {
+            Thread.sleep(10L);
+        }
+        assertThat(executorService.getRunningTaskCount(), is(1));
+        finished.countDown();
+        first.get();
+        assertThat(second.get(), is(1));
+        assertThat(executorService.getBlockedTaskCount(), is(0));
+        assertThat(executorService.getQueuedTaskCount(), is(0));
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertSubmitWithoutConcurrencyLimitOfDifferentDataSources() throws InterruptedException, ExecutionException {
+        MeteredExecutorService executorService = new MeteredExecutorService(Executors.newCachedThreadPool(), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finished = new CountDownLatch(1);
+        Future<?> first = executorService.submit("ds_0", () -> {
+            started.countDown();
+            awaitQuietly(finished);
+            return null;
+        });
+        started.await();
+        assertThat(executorService.submit("ds_1", () -> 1).get(), is(1));
+        assertThat(executorService.submit(() -> 2).get(), is(2));
+        assertThat(executorService.getBlockedTaskCount(), is(0));
+        finished.countDown();
+        first.get();
+        executorService.shutdown();
+        assertTrue(executorService.awaitTermination(1L, TimeUnit.SECONDS));
+    }
+    
+    private void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.merge;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 import org.apache.shardingsphere.infra.merge.engine.decorator.ResultDecorator;
@@ -57,14 +58,22 @@ public final class MergeEngine {
     
     private final ConfigurationProperties props;
     
+    private final ExecutorEngine executorEngine;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ResultProcessEngine> engines;
     
     public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props, final Collection<ShardingSphereRule> rules) {
+        this(schemaName, databaseType, schema, props, rules, null);
+    }
+    
+    public MergeEngine(final String schemaName, final DatabaseType databaseType, final ShardingSphereSchema schema, final ConfigurationProperties props,
+                       final Collection<ShardingSphereRule> rules, final ExecutorEngine executorEngine) {
         this.schemaName = schemaName;
         this.databaseType = databaseType;
         this.schema = schema;
         this.props = props;
+        this.executorEngine = executorEngine;
         engines = OrderedSPIRegistry.getRegisteredServices(ResultProcessEngine.class, rules);
     }
     
@@ -86,7 +95,7 @@ public final class MergeEngine {
     private Optional<MergedResult> executeMerge(final List<QueryResult> queryResults, final SQLStatementContext<?> sqlStatementContext) throws SQLException {
         for (Entry<ShardingSphereRule, ResultProcessEngine> entry : engines.entrySet()) {
             if (entry.getValue() instanceof ResultMergerEngine) {
-                ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(schemaName, databaseType, entry.getKey(), props, sqlStatementContext);
+                ResultMerger resultMerger = ((ResultMergerEngine) entry.getValue()).newInstance(schemaName, databaseType, entry.getKey(), props, sqlStatementContext, executorEngine);
                 return Optional.of(resultMerger.merge(queryResults, sqlStatementContext, schema));
             }
         }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.merge.engine.merger;
 import org.apache.shardingsphere.infra.database.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.merge.engine.ResultProcessEngine;
 
@@ -41,4 +42,19 @@ public interface ResultMergerEngine<T extends ShardingSphereRule> extends Result
      * @return new instance of result merger engine
      */
     ResultMerger newInstance(String schemaName, DatabaseType databaseType, T rule, ConfigurationProperties props, SQLStatementContext<?> sqlStatementContext);
+    
+    /**
+     * Create new instance of result merger engine which may merge in parallel.
+     *
+     * @param schemaName schema name
+     * @param databaseType database type
+     * @param rule rule
+     * @param props ShardingSphere properties
+     * @param sqlStatementContext SQL statement context
+     * @param executorEngine executor engine for parallel merge, null means merge in current thread
+     * @return new instance of result merger engine
+     */
+    default ResultMerger newInstance(String schemaName, DatabaseType databaseType, T rule, ConfigurationProperties props, SQLStatementContext<?> sqlStatementContext, ExecutorEngine executorEngine) {
+        return newInstance(schemaName, databaseType, rule, props, sqlStatementContext);
+    }
 }
@@ -17,6 +17,8 @@
 
 package org.apache.shardingsphere.infra.merge.result.impl.memory;
 
+import com.google.common.collect.Iterators;
+import com.google.common.collect.PeekingIterator;
 import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
@@ -55,6 +57,14 @@ public abstract class MemoryMergedResult<T extends ShardingSphereRule> implement
         }
     }
     
+    protected MemoryMergedResult(final Iterator<MemoryQueryResultRow> memoryResultSetRows) {
+        PeekingIterator<MemoryQueryResultRow> peekingIterator = Iterators.peekingIterator(memoryResultSetRows);
+        this.memoryResultSetRows = peekingIterator;
+        if (peekingIterator.hasNext()) {
+            currentResultSetRow = peekingIterator.peek();
+        }
+    }
+    
     protected abstract List<MemoryQueryResultRow> init(T rule, ShardingSphereSchema schema, SQLStatementContext<?> sqlStatementContext, List<QueryResult> queryResults) throws SQLException;
     
     @Override
@@ -35,6 +35,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 public final class MemoryMergedResultTest {
@@ -61,6 +62,17 @@ public final class MemoryMergedResultTest {
         assertThat(memoryMergedResult.getValue(1, Object.class).toString(), is("1"));
     }
     
+    @Test
+    public void assertGetValueWithIteratorBeforeNext() throws SQLException {
+        MemoryQueryResultRow row = mock(MemoryQueryResultRow.class);
+        when(row.getCell(1)).thenReturn("1");
+        TestMemoryMergedResult actual = new TestMemoryMergedResult(row);
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class).toString(), is("1"));
+        assertFalse(actual.next());
+    }
+    
     @Test(expected = SQLFeatureNotSupportedException.class)
     public void assertGetValueForBlob() throws SQLException {
         memoryMergedResult.getValue(1, Blob.class);
@@ -40,6 +40,11 @@ public final class TestMemoryMergedResult extends MemoryMergedResult<Independent
         super(null, null, null, Collections.emptyList());
     }
     
+    public TestMemoryMergedResult(final MemoryQueryResultRow memoryQueryResultRow) {
+        super(Collections.singletonList(memoryQueryResultRow).iterator());
+        this.memoryQueryResultRow = memoryQueryResultRow;
+    }
+    
     @Override
     protected List<MemoryQueryResultRow> init(final IndependentRuleFixture rule, final ShardingSphereSchema schema,
                                               final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) {
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.core.RebindableCharStream;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLFingerprint;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+
+import java.util.Optional;
+
+/**
+ * SQL statement shape cache.
+ * 
+ * <p>SQLs of the same shape only differ in values of literals with the same lengths, see {@link SQLFingerprint#shape(String)}.
+ * Parse tree of the first SQL is cached by shape, and SQL statement of a later SQL is visited from the cached parse tree after its char stream is rebound to the later SQL,
+ * so start and stop indexes of segments stay valid and literal values are read from the later SQL. Visiting of the same parse tree is serialized.</p>
+ */
+public final class SQLStatementShapeCache {
+    
+    private final SQLParserEngine parserEngine;
+    
+    private final SQLVisitorEngine visitorEngine;
+    
+    private final Cache<String, SQLStatementShape> shapes;
+    
+    public SQLStatementShapeCache(final SQLParserEngine parserEngine, final SQLVisitorEngine visitorEngine, final CacheOption cacheOption) {
+        this.parserEngine = parserEngine;
+        this.visitorEngine = visitorEngine;
+        shapes = CacheBuilder.newBuilder().softValues()
+                .initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).concurrencyLevel(cacheOption.getConcurrencyLevel()).build();
+    }
+    
+    /**
+     * Parse to SQL statement.
+     * 
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        Optional<String> shape = SQLFingerprint.shape(sql);
+        if (!shape.isPresent() || shape.get().equals(sql)) {
+            return visitorEngine.visit(parserEngine.parse(sql, false));
+        }
+        SQLStatementShape result = shapes.getIfPresent(shape.get());
+        if (null == result) {
+            RebindableCharStream charStream = new RebindableCharStream(sql);
+            result = new SQLStatementShape(charStream, parserEngine.parse(sql, charStream));
+            shapes.put(shape.get(), result);
+        }
+        return result.visit(sql);
+    }
+    
+    @RequiredArgsConstructor
+    private final class SQLStatementShape {
+        
+        private final RebindableCharStream charStream;
+        
+        private final ParseASTNode parseASTNode;
+        
+        private synchronized SQLStatement visit(final String sql) {
+            charStream.rebind(sql);
+            return visitorEngine.visit(parseASTNode);
+        }
+    }
+}
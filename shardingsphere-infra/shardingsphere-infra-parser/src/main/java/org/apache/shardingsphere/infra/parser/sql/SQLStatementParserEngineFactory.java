@@ -19,17 +19,31 @@ package org.apache.shardingsphere.infra.parser.sql;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * SQL statement parser engine factory.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class SQLStatementParserEngineFactory {
     
+    private static final String WARM_UP_SQL_FILE = "sql-parser-warm-up/%s.sql";
+    
     private static final Map<String, SQLStatementParserEngine> ENGINES = new ConcurrentHashMap<>();
     
     /**
@@ -45,8 +59,42 @@ public final class SQLStatementParserEngineFactory {
                                                                        final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
+            result = ENGINES.computeIfAbsent(databaseType, key -> createSQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, isParseComment));
         }
         return result;
     }
+    
+    private static SQLStatementParserEngine createSQLStatementParserEngine(final String databaseType,
+                                                                           final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
+        warmUp(databaseType, loadWarmUpSQLs(databaseType));
+        return new SQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, isParseComment);
+    }
+    
+    // SQLs are parsed by SQL parser executor directly, because fast path parser and caches would skip ANTLR, whose DFA is shared by all parser instances of the same database type.
+    private static void warmUp(final String databaseType, final Collection<String> sqls) {
+        if (sqls.isEmpty()) {
+            return;
+        }
+        SQLParserExecutor sqlParserExecutor = new SQLParserExecutor(databaseType);
+        for (String each : sqls) {
+            try {
+                sqlParserExecutor.parse(each);
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                log.warn("Warm up SQL parser failed with SQL `{}`.", each, ex);
+            }
+        }
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static Collection<String> loadWarmUpSQLs(final String databaseType) {
+        InputStream inputStream = SQLStatementParserEngineFactory.class.getClassLoader().getResourceAsStream(String.format(WARM_UP_SQL_FILE, databaseType));
+        if (null == inputStream) {
+            return Collections.emptyList();
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            return reader.lines().map(String::trim).filter(each -> !each.isEmpty() && !each.startsWith("--")).collect(Collectors.toList());
+        }
+    }
 }
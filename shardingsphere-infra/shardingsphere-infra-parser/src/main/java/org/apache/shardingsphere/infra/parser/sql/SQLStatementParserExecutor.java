@@ -17,9 +17,11 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import org.apache.shardingsphere.infra.parser.cache.SQLStatementShapeCache;
 import org.apache.shardingsphere.sql.parser.api.CacheOption;
 import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
 import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.core.database.fastpath.FastPathSQLStatementParser;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 
 import java.util.Properties;
@@ -29,13 +31,14 @@ import java.util.Properties;
  */
 public final class SQLStatementParserExecutor {
     
-    private final SQLParserEngine parserEngine;
+    private final SQLStatementShapeCache shapeCache;
     
-    private final SQLVisitorEngine visitorEngine;
+    private final FastPathSQLStatementParser fastPathParser;
     
     public SQLStatementParserExecutor(final String databaseType, final CacheOption parseTreeCacheOption, final boolean isParseComment) {
-        parserEngine = new SQLParserEngine(databaseType, parseTreeCacheOption);
-        visitorEngine = new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties());
+        shapeCache = new SQLStatementShapeCache(new SQLParserEngine(databaseType, parseTreeCacheOption),
+                new SQLVisitorEngine(databaseType, "STATEMENT", isParseComment, new Properties()), parseTreeCacheOption);
+        fastPathParser = new FastPathSQLStatementParser(databaseType);
     }
     
     /**
@@ -45,6 +48,6 @@ public final class SQLStatementParserExecutor {
      * @return SQL statement
      */
     public SQLStatement parse(final String sql) {
-        return visitorEngine.visit(parserEngine.parse(sql, false));
+        return fastPathParser.parse(sql).orElseGet(() -> shapeCache.parse(sql));
     }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.cache;
+
+import org.antlr.v4.runtime.CharStream;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.api.SQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.SQLVisitorEngine;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public final class SQLStatementShapeCacheTest {
+    
+    private final SQLParserEngine parserEngine = spy(new SQLParserEngine("MySQL", new CacheOption(128, 1024L, 4)));
+    
+    private final SQLStatementShapeCache shapeCache = new SQLStatementShapeCache(parserEngine, new SQLVisitorEngine("MySQL", "STATEMENT", false, new Properties()), new CacheOption(128, 1024L, 4));
+    
+    @Test
+    public void assertParseSameShape() {
+        SelectStatement expected = (SelectStatement) shapeCache.parse("SELECT * FROM t_order WHERE order_id = 10 AND status = 'ok'");
+        SelectStatement actual = (SelectStatement) shapeCache.parse("SELECT * FROM t_order WHERE order_id = 25 AND status = 'no'");
+        verify(parserEngine).parse(anyString(), any(CharStream.class));
+        assertWhere(expected, 10, "ok", "order_id = 10 AND status = 'ok'");
+        assertWhere(actual, 25, "no", "order_id = 25 AND status = 'no'");
+    }
+    
+    private void assertWhere(final SelectStatement selectStatement, final int orderId, final String status, final String text) {
+        BinaryOperationExpression where = (BinaryOperationExpression) selectStatement.getWhere().orElseThrow(IllegalStateException::new).getExpr();
+        assertThat(where.getText(), is(text));
+        LiteralExpressionSegment orderIdLiteral = (LiteralExpressionSegment) ((BinaryOperationExpression) where.getLeft()).getRight();
+        assertThat(orderIdLiteral.getLiterals(), is(orderId));
+        assertThat(orderIdLiteral.getStartIndex(), is(39));
+        assertThat(orderIdLiteral.getStopIndex(), is(40));
+        LiteralExpressionSegment statusLiteral = (LiteralExpressionSegment) ((BinaryOperationExpression) where.getRight()).getRight();
+        assertThat(statusLiteral.getLiterals(), is(status));
+        assertThat(statusLiteral.getStartIndex(), is(55));
+        assertThat(statusLiteral.getStopIndex(), is(58));
+    }
+    
+    @Test
+    public void assertParseLiteralsOfDifferentLengths() {
+        shapeCache.parse("SELECT * FROM t_order WHERE order_id = 10");
+        SelectStatement actual = (SelectStatement) shapeCache.parse("SELECT * FROM t_order WHERE order_id = 100");
+        verify(parserEngine, times(2)).parse(anyString(), any(CharStream.class));
+        LiteralExpressionSegment literal = (LiteralExpressionSegment) ((BinaryOperationExpression) actual.getWhere().orElseThrow(IllegalStateException::new).getExpr()).getRight();
+        assertThat(literal.getLiterals(), is(100));
+    }
+    
+    @Test
+    public void assertParseWithoutShape() {
+        String sql = "SELECT * FROM t_order WHERE order_id = 10 -- comment";
+        shapeCache.parse(sql);
+        shapeCache.parse(sql);
+        verify(parserEngine, times(2)).parse(sql, false);
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.statement;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stateless statement components shared by statements of the same meta data contexts.
+ *
+ * <p>Components are weakly keyed by meta data contexts, so contexts renewed by context manager will get new components
+ * and the replaced ones will be released automatically.</p>
+ *
+ * <p>Components must not reference the meta data contexts, otherwise the weak key would never be released.</p>
+ */
+final class StatementComponents {
+    
+    private static final Cache<MetaDataContexts, StatementComponents> CACHE = CacheBuilder.newBuilder().weakKeys().build();
+    
+    private final ShardingSphereRuleMetaData globalRuleMetaData;
+    
+    private final Map<String, ShardingSphereSQLParserEngine> sqlParserEngines = new ConcurrentHashMap<>();
+    
+    private final JDBCExecutor serialJDBCExecutor;
+    
+    private final JDBCExecutor parallelJDBCExecutor;
+    
+    @Getter
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private StatementComponents(final MetaDataContexts metaDataContexts) {
+        globalRuleMetaData = metaDataContexts.getGlobalRuleMetaData();
+        serialJDBCExecutor = new JDBCExecutor(metaDataContexts.getExecutorEngine(), true);
+        parallelJDBCExecutor = new JDBCExecutor(metaDataContexts.getExecutorEngine(), false);
+    }
+    
+    /**
+     * Get statement components.
+     *
+     * @param metaDataContexts meta data contexts
+     * @return statement components
+     */
+    static StatementComponents get(final MetaDataContexts metaDataContexts) {
+        StatementComponents result = CACHE.getIfPresent(metaDataContexts);
+        if (null == result) {
+            result = new StatementComponents(metaDataContexts);
+            CACHE.put(metaDataContexts, result);
+        }
+        return result;
+    }
+    
+    /**
+     * Get SQL parser engine.
+     *
+     * <p>Parser engines are keyed by trunk database type rather than database name, because resources of a database may be replaced in place.</p>
+     *
+     * @param databaseType database type
+     * @return SQL parser engine
+     */
+    ShardingSphereSQLParserEngine getSQLParserEngine(final DatabaseType databaseType) {
+        return sqlParserEngines.computeIfAbsent(DatabaseTypeRegistry.getTrunkDatabaseTypeName(databaseType), this::createSQLParserEngine);
+    }
+    
+    private ShardingSphereSQLParserEngine createSQLParserEngine(final String databaseTypeName) {
+        Optional<SQLParserRule> sqlParserRule = globalRuleMetaData.findSingleRule(SQLParserRule.class);
+        Preconditions.checkState(sqlParserRule.isPresent());
+        return new ShardingSphereSQLParserEngine(databaseTypeName, sqlParserRule.get().toParserConfiguration());
+    }
+    
+    /**
+     * Get JDBC executor.
+     *
+     * @param serial whether execute serially
+     * @return JDBC executor
+     */
+    JDBCExecutor getJDBCExecutor(final boolean serial) {
+        return serial ? serialJDBCExecutor : parallelJDBCExecutor;
+    }
+}
@@ -28,15 +28,27 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.Statemen
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Statement manager.
+ *
+ * <p>Prepared statements are cached by data source name, rewritten SQL and connection mode, so the same route will reuse the physical prepared statements.
+ * Cached statements are only reused on the connection which created them, and the least recently used ones are evicted once the cache exceeds its max size.</p>
+ *
+ * <p>Replaced stale statements are closed together with evicted ones, so their close exceptions are thrown rather than lost.</p>
  */
 public final class StatementManager implements ExecutorJDBCStatementManager, AutoCloseable {
     
-    private final Map<CacheKey, Statement> cachedStatements = new ConcurrentHashMap<>();
+    private static final int MAX_CACHED_STATEMENT_SIZE = 128;
+    
+    private final Map<CacheKey, Statement> cachedStatements = new LinkedHashMap<>(16, 0.75F, true);
+    
+    private final Collection<Statement> staleStatements = new LinkedList<>();
     
     private final ForceExecuteTemplate<Statement> forceExecuteTemplate = new ForceExecuteTemplate<>();
     
@@ -48,22 +60,56 @@ public final class StatementManager implements ExecutorJDBCStatementManager, Aut
     
     @SuppressWarnings("MagicConstant")
     @Override
-    public Statement createStorageResource(final ExecutionUnit executionUnit, final Connection connection, final ConnectionMode connectionMode, final StatementOption option) throws SQLException {
-        Statement result = cachedStatements.get(new CacheKey(executionUnit, connectionMode));
-        if (null == result) {
-            String sql = executionUnit.getSqlUnit().getSql();
-            result = option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
-                    : connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
-            cachedStatements.put(new CacheKey(executionUnit, connectionMode), result);
+    public synchronized Statement createStorageResource(final ExecutionUnit executionUnit, final Connection connection, final ConnectionMode connectionMode,
+                                                       final StatementOption option) throws SQLException {
+        CacheKey cacheKey = new CacheKey(executionUnit, connectionMode);
+        Statement result = cachedStatements.get(cacheKey);
+        if (null != result && isReusable(result, connection)) {
+            return result;
+        }
+        if (null != result) {
+            staleStatements.add(result);
         }
+        String sql = executionUnit.getSqlUnit().getSql();
+        result = option.isReturnGeneratedKeys() ? connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)
+                : connection.prepareStatement(sql, option.getResultSetType(), option.getResultSetConcurrency(), option.getResultSetHoldability());
+        cachedStatements.put(cacheKey, result);
         return result;
     }
     
+    private boolean isReusable(final Statement statement, final Connection connection) throws SQLException {
+        return !statement.isClosed() && connection == statement.getConnection();
+    }
+    
+    /**
+     * Evict least recently used statements which exceed max cached size, and close stale statements.
+     *
+     * <p>It should be called before preparing execution units, when no cached statement is in use.</p>
+     *
+     * @throws SQLException SQL exception
+     */
+    public synchronized void evictExceededStatements() throws SQLException {
+        if (cachedStatements.size() <= MAX_CACHED_STATEMENT_SIZE && staleStatements.isEmpty()) {
+            return;
+        }
+        Collection<Statement> evictedStatements = new LinkedList<>(staleStatements);
+        staleStatements.clear();
+        Iterator<Statement> iterator = cachedStatements.values().iterator();
+        while (cachedStatements.size() > MAX_CACHED_STATEMENT_SIZE && iterator.hasNext()) {
+            evictedStatements.add(iterator.next());
+            iterator.remove();
+        }
+        forceExecuteTemplate.execute(evictedStatements, Statement::close);
+    }
+    
     @Override
-    public void close() throws SQLException {
+    public synchronized void close() throws SQLException {
+        Collection<Statement> statements = new LinkedList<>(staleStatements);
+        statements.addAll(cachedStatements.values());
         try {
-            forceExecuteTemplate.execute(cachedStatements.values(), Statement::close);
+            forceExecuteTemplate.execute(statements, Statement::close);
         } finally {
+            staleStatements.clear();
             cachedStatements.clear();
         }
     }
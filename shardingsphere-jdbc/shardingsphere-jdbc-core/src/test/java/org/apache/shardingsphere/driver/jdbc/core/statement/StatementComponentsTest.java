@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.statement;
+
+import org.apache.shardingsphere.infra.database.type.dialect.MariaDBDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.PostgreSQLDatabaseType;
+import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
+import org.apache.shardingsphere.parser.rule.SQLParserRule;
+import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public final class StatementComponentsTest {
+    
+    @Test
+    public void assertGetWithSameMetaDataContexts() {
+        MetaDataContexts metaDataContexts = mockMetaDataContexts();
+        assertThat(StatementComponents.get(metaDataContexts), sameInstance(StatementComponents.get(metaDataContexts)));
+    }
+    
+    @Test
+    public void assertGetWithRenewedMetaDataContexts() {
+        assertThat(StatementComponents.get(mockMetaDataContexts()), not(sameInstance(StatementComponents.get(mockMetaDataContexts()))));
+    }
+    
+    @Test
+    public void assertGetSQLParserEngine() {
+        StatementComponents statementComponents = StatementComponents.get(mockMetaDataContexts());
+        assertThat(statementComponents.getSQLParserEngine(new MySQLDatabaseType()), sameInstance(statementComponents.getSQLParserEngine(new MariaDBDatabaseType())));
+        assertThat(statementComponents.getSQLParserEngine(new MySQLDatabaseType()), not(sameInstance(statementComponents.getSQLParserEngine(new PostgreSQLDatabaseType()))));
+    }
+    
+    @Test
+    public void assertGetJDBCExecutor() {
+        StatementComponents statementComponents = StatementComponents.get(mockMetaDataContexts());
+        assertThat(statementComponents.getJDBCExecutor(true), sameInstance(statementComponents.getJDBCExecutor(true)));
+        assertThat(statementComponents.getJDBCExecutor(true), not(sameInstance(statementComponents.getJDBCExecutor(false))));
+    }
+    
+    private MetaDataContexts mockMetaDataContexts() {
+        MetaDataContexts result = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
+        when(result.getGlobalRuleMetaData().findSingleRule(SQLParserRule.class)).thenReturn(Optional.of(new SQLParserRule(new DefaultSQLParserRuleConfigurationBuilder().build())));
+        return result;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.driver.jdbc.core.statement;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public final class StatementManagerTest {
+    
+    private final StatementOption option = new StatementOption(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    
+    @Test
+    public void assertCreateStorageResourceWithSameRouteAndDifferentParameters() throws SQLException {
+        Connection connection = mockConnection();
+        StatementManager statementManager = new StatementManager();
+        Statement expected = statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_0 WHERE order_id = ?", 1), connection, ConnectionMode.MEMORY_STRICTLY, option);
+        Statement actual = statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_0 WHERE order_id = ?", 2), connection, ConnectionMode.MEMORY_STRICTLY, option);
+        assertThat(actual, sameInstance(expected));
+        verify(connection).prepareStatement(anyString(), anyInt(), anyInt(), anyInt());
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithDifferentRoutes() throws SQLException {
+        Connection connection = mockConnection();
+        StatementManager statementManager = new StatementManager();
+        Statement expected = statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_0 WHERE order_id = ?", 1), connection, ConnectionMode.MEMORY_STRICTLY, option);
+        Statement actual = statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_1 WHERE order_id = ?", 1), connection, ConnectionMode.MEMORY_STRICTLY, option);
+        assertThat(actual, not(sameInstance(expected)));
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithAnotherConnection() throws SQLException {
+        StatementManager statementManager = new StatementManager();
+        ExecutionUnit executionUnit = createExecutionUnit("SELECT * FROM t_order_0 WHERE order_id = ?", 1);
+        Statement expected = statementManager.createStorageResource(executionUnit, mockConnection(), ConnectionMode.MEMORY_STRICTLY, option);
+        Statement actual = statementManager.createStorageResource(executionUnit, mockConnection(), ConnectionMode.MEMORY_STRICTLY, option);
+        assertThat(actual, not(sameInstance(expected)));
+        verify(expected, never()).close();
+        statementManager.evictExceededStatements();
+        verify(expected).close();
+        verify(actual, never()).close();
+    }
+    
+    @Test(expected = SQLException.class)
+    public void assertEvictExceededStatementsWhenCloseStaleStatementFailed() throws SQLException {
+        StatementManager statementManager = new StatementManager();
+        ExecutionUnit executionUnit = createExecutionUnit("SELECT * FROM t_order_0 WHERE order_id = ?", 1);
+        Statement staleStatement = statementManager.createStorageResource(executionUnit, mockConnection(), ConnectionMode.MEMORY_STRICTLY, option);
+        doThrow(new SQLException("close failed")).when(staleStatement).close();
+        statementManager.createStorageResource(executionUnit, mockConnection(), ConnectionMode.MEMORY_STRICTLY, option);
+        statementManager.evictExceededStatements();
+    }
+    
+    @Test
+    public void assertCreateStorageResourceWithClosedStatement() throws SQLException {
+        Connection connection = mockConnection();
+        StatementManager statementManager = new StatementManager();
+        ExecutionUnit executionUnit = createExecutionUnit("SELECT * FROM t_order_0 WHERE order_id = ?", 1);
+        Statement expected = statementManager.createStorageResource(executionUnit, connection, ConnectionMode.MEMORY_STRICTLY, option);
+        when(expected.isClosed()).thenReturn(true);
+        assertThat(statementManager.createStorageResource(executionUnit, connection, ConnectionMode.MEMORY_STRICTLY, option), not(sameInstance(expected)));
+        statementManager.close();
+        verify(expected).close();
+    }
+    
+    @Test
+    public void assertEvictExceededStatements() throws SQLException {
+        Connection connection = mockConnection();
+        StatementManager statementManager = new StatementManager();
+        Statement eldest = statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_0", 1), connection, ConnectionMode.MEMORY_STRICTLY, option);
+        Statement latest = null;
+        for (int i = 1; i <= 128; i++) {
+            latest = statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_" + i, 1), connection, ConnectionMode.MEMORY_STRICTLY, option);
+        }
+        verify(eldest, never()).close();
+        statementManager.evictExceededStatements();
+        verify(eldest).close();
+        verify(latest, never()).close();
+        statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_0", 1), connection, ConnectionMode.MEMORY_STRICTLY, option);
+        verify(connection, times(2)).prepareStatement("SELECT * FROM t_order_0", ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT);
+    }
+    
+    @Test
+    public void assertClose() throws SQLException {
+        StatementManager statementManager = new StatementManager();
+        Statement statement = statementManager.createStorageResource(createExecutionUnit("SELECT * FROM t_order_0", 1), mockConnection(), ConnectionMode.MEMORY_STRICTLY, option);
+        statementManager.close();
+        verify(statement).close();
+    }
+    
+    private ExecutionUnit createExecutionUnit(final String sql, final Object parameter) {
+        return new ExecutionUnit("ds_0", new SQLUnit(sql, Collections.singletonList(parameter)));
+    }
+    
+    private Connection mockConnection() throws SQLException {
+        Connection result = mock(Connection.class);
+        when(result.prepareStatement(anyString(), anyInt(), anyInt(), anyInt())).thenAnswer(invocation -> {
+            PreparedStatement statement = mock(PreparedStatement.class);
+            when(statement.getConnection()).thenReturn(result);
+            return statement;
+        });
+        return result;
+    }
+}
@@ -70,6 +70,31 @@ public interface GovernanceRepositoryAPI {
      */
     Optional<Boolean> getJobCheckResult(String jobId);
     
+    /**
+     * Persist job check progress.
+     *
+     * @param jobId job id
+     * @param logicTableName logic table name
+     * @param checkedUniqueKeyValue max unique key value of checked records
+     */
+    void persistJobCheckProgress(String jobId, String logicTableName, Object checkedUniqueKeyValue);
+    
+    /**
+     * Get job check progress.
+     *
+     * @param jobId job id
+     * @param logicTableName logic table name
+     * @return max unique key value of checked records
+     */
+    Optional<Object> getJobCheckProgress(String jobId, String logicTableName);
+    
+    /**
+     * Delete job check progress.
+     *
+     * @param jobId job id
+     */
+    void deleteJobCheckProgress(String jobId);
+    
     /**
      * Delete job.
      *
@@ -31,10 +31,12 @@ import org.apache.shardingsphere.data.pipeline.core.job.progress.yaml.YamlJobPro
 import org.apache.shardingsphere.data.pipeline.core.task.IncrementalTask;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
 import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -50,6 +52,8 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
     
     private static final JobProgressYamlSwapper JOB_PROGRESS_YAML_SWAPPER = new JobProgressYamlSwapper();
     
+    private static final String CHECKED_UNIQUE_KEY_VALUE = "checkedUniqueKeyValue";
+    
     private final ClusterPersistRepository repository;
     
     @Override
@@ -64,6 +68,8 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         jobProgress.setSourceDatabaseType(jobContext.getJobConfig().getHandleConfig().getSourceDatabaseType());
         jobProgress.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(jobContext));
         jobProgress.setInventoryTaskProgressMap(getInventoryTaskProgressMap(jobContext));
+        jobProgress.setInputRateLimit(getCurrentRate(jobContext.getRuleAlteredContext().getInputRateLimitAlgorithm()));
+        jobProgress.setOutputRateLimit(getCurrentRate(jobContext.getRuleAlteredContext().getOutputRateLimitAlgorithm()));
         String value = YamlEngine.marshal(JOB_PROGRESS_YAML_SWAPPER.swapToYaml(jobProgress));
         repository.persist(getOffsetPath(jobContext.getJobId(), jobContext.getShardingItem()), value);
     }
@@ -84,6 +90,10 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         return result;
     }
     
+    private Double getCurrentRate(final JobRateLimitAlgorithm rateLimitAlgorithm) {
+        return null == rateLimitAlgorithm ? null : rateLimitAlgorithm.getCurrentRate().orElse(null);
+    }
+    
     @Override
     public JobProgress getJobProgress(final String jobId, final int shardingItem) {
         String data = repository.get(getOffsetPath(jobId, shardingItem));
@@ -109,6 +119,31 @@ public final class GovernanceRepositoryAPIImpl implements GovernanceRepositoryAP
         return Strings.isNullOrEmpty(data) ? Optional.empty() : Optional.of(Boolean.parseBoolean(data));
     }
     
+    @Override
+    public void persistJobCheckProgress(final String jobId, final String logicTableName, final Object checkedUniqueKeyValue) {
+        repository.persist(getCheckProgressPath(jobId, logicTableName), YamlEngine.marshal(Collections.singletonMap(CHECKED_UNIQUE_KEY_VALUE, checkedUniqueKeyValue)));
+    }
+    
+    @Override
+    public Optional<Object> getJobCheckProgress(final String jobId, final String logicTableName) {
+        String data = repository.get(getCheckProgressPath(jobId, logicTableName));
+        return Strings.isNullOrEmpty(data) ? Optional.empty() : Optional.ofNullable(YamlEngine.unmarshal(data, Map.class).get(CHECKED_UNIQUE_KEY_VALUE));
+    }
+    
+    @Override
+    public void deleteJobCheckProgress(final String jobId) {
+        log.info("delete job check progress of job {}", jobId);
+        repository.delete(getCheckProgressPath(jobId));
+    }
+    
+    private String getCheckProgressPath(final String jobId, final String logicTableName) {
+        return String.format("%s/%s", getCheckProgressPath(jobId), logicTableName);
+    }
+    
+    private String getCheckProgressPath(final String jobId) {
+        return String.format("%s/%s/check/progress", DataPipelineConstants.DATA_PIPELINE_ROOT, jobId);
+    }
+    
     @Override
     public void deleteJob(final String jobId) {
         log.info("delete job {}", jobId);
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import com.google.common.collect.Range;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkCRC32MatchDataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkCRC32MatchDataConsistencyCalculateAlgorithm.CalculatedResult;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Chunk data consistency rechecker.
+ * Mismatched chunk is split into finer chunks, and only mismatched finer chunks are rechecked again, until chunk size is 1.
+ */
+@RequiredArgsConstructor
+@Slf4j
+public final class ChunkDataConsistencyRechecker {
+    
+    private static final int SPLIT_COUNT = 10;
+    
+    private final DataConsistencyCalculateParameter sourceParameter;
+    
+    private final DataConsistencyCalculateParameter targetParameter;
+    
+    /**
+     * Recheck mismatched chunk.
+     *
+     * @param lowerBound exclusive lower bound of unique key value, null means no lower bound
+     * @param upperBound inclusive upper bound of unique key value
+     * @param chunkSize chunk size of mismatched chunk
+     * @return matched or not
+     */
+    public boolean recheck(final Object lowerBound, final Object upperBound, final int chunkSize) {
+        int finerChunkSize = Math.max(1, chunkSize / SPLIT_COUNT);
+        ChunkCRC32MatchDataConsistencyCalculateAlgorithm calculator = createCalculator(finerChunkSize);
+        Iterator<Object> sourceCalculatedResults = calculator.calculate(createParameter(sourceParameter, lowerBound, upperBound)).iterator();
+        Iterator<Object> targetCalculatedResults = calculator.calculate(createParameter(targetParameter, lowerBound, upperBound)).iterator();
+        Object checkedUniqueKeyValue = lowerBound;
+        while (sourceCalculatedResults.hasNext() || targetCalculatedResults.hasNext()) {
+            CalculatedResult sourceCalculatedResult = (CalculatedResult) (sourceCalculatedResults.hasNext() ? sourceCalculatedResults.next() : null);
+            CalculatedResult targetCalculatedResult = (CalculatedResult) (targetCalculatedResults.hasNext() ? targetCalculatedResults.next() : null);
+            if (Objects.equals(sourceCalculatedResult, targetCalculatedResult)) {
+                checkedUniqueKeyValue = sourceCalculatedResult.getMaxUniqueKeyValue();
+                continue;
+            }
+            Object mismatchedUpperBound = getMaxUniqueKeyValue(sourceCalculatedResult, targetCalculatedResult);
+            if (1 == finerChunkSize) {
+                log.warn("Table `{}` data mismatched, unique key `{}` value range is ({}, {}]",
+                        sourceParameter.getLogicTableName(), sourceParameter.getUniqueKey(), checkedUniqueKeyValue, mismatchedUpperBound);
+                return false;
+            }
+            if (!recheck(checkedUniqueKeyValue, mismatchedUpperBound, finerChunkSize)) {
+                return false;
+            }
+            return Objects.equals(mismatchedUpperBound, upperBound) || recheck(mismatchedUpperBound, upperBound, chunkSize);
+        }
+        return true;
+    }
+    
+    private ChunkCRC32MatchDataConsistencyCalculateAlgorithm createCalculator(final int chunkSize) {
+        ChunkCRC32MatchDataConsistencyCalculateAlgorithm result = new ChunkCRC32MatchDataConsistencyCalculateAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("chunk-size", String.valueOf(chunkSize));
+        result.setProps(props);
+        result.init();
+        return result;
+    }
+    
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private DataConsistencyCalculateParameter createParameter(final DataConsistencyCalculateParameter parameter, final Object lowerBound, final Object upperBound) {
+        DataConsistencyCalculateParameter result = new DataConsistencyCalculateParameter(
+                parameter.getDataSource(), parameter.getLogicTableName(), parameter.getColumnNames(), parameter.getDatabaseType(), parameter.getPeerDatabaseType(), parameter.getUniqueKey());
+        Range uniqueKeyValueRange = Range.atMost((Comparable) upperBound);
+        result.setUniqueKeyValueRange(uniqueKeyValueRange);
+        if (null != lowerBound) {
+            result.setPreviousCalculatedResult(new CalculatedResult(lowerBound, 0, 0L));
+        }
+        return result;
+    }
+    
+    /**
+     * Get max unique key value of calculated results.
+     *
+     * @param sourceCalculatedResult source calculated result, null means no more records
+     * @param targetCalculatedResult target calculated result, null means no more records
+     * @return max unique key value
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static Object getMaxUniqueKeyValue(final CalculatedResult sourceCalculatedResult, final CalculatedResult targetCalculatedResult) {
+        if (null == sourceCalculatedResult) {
+            return targetCalculatedResult.getMaxUniqueKeyValue();
+        }
+        if (null == targetCalculatedResult) {
+            return sourceCalculatedResult.getMaxUniqueKeyValue();
+        }
+        Comparable sourceMaxUniqueKeyValue = (Comparable) sourceCalculatedResult.getMaxUniqueKeyValue();
+        Comparable targetMaxUniqueKeyValue = (Comparable) targetCalculatedResult.getMaxUniqueKeyValue();
+        return sourceMaxUniqueKeyValue.compareTo(targetMaxUniqueKeyValue) >= 0 ? sourceMaxUniqueKeyValue : targetMaxUniqueKeyValue;
+    }
+}
@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.data.pipeline.core.check.consistency;
 
 import com.google.common.base.Preconditions;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCheckResult;
 import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyContentCheckResult;
@@ -28,6 +29,9 @@ import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDat
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfigurationFactory;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.yaml.YamlPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.core.api.PipelineAPIFactory;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkCRC32MatchDataConsistencyCalculateAlgorithm;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkCRC32MatchDataConsistencyCalculateAlgorithm.CalculatedResult;
 import org.apache.shardingsphere.data.pipeline.core.context.PipelineContext;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceFactory;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
@@ -55,6 +59,7 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Properties;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
@@ -66,6 +71,7 @@ import java.util.concurrent.TimeUnit;
 /**
  * Data consistency checker.
  */
+@Slf4j
 public final class DataConsistencyChecker {
     
     private final JobConfiguration jobConfig;
@@ -162,12 +168,14 @@ public final class DataConsistencyChecker {
             });
             String sourceDatabaseType = sourceDataSourceConfig.getDatabaseType().getName();
             String targetDatabaseType = targetDataSourceConfig.getDatabaseType().getName();
+            boolean chunked = calculator instanceof ChunkCRC32MatchDataConsistencyCalculateAlgorithm;
             for (String each : logicTableNames) {
                 TableMetaData tableMetaData = tableMetaDataMap.get(each);
                 Collection<String> columnNames = tableMetaData.getColumns().keySet();
                 String uniqueKey = tableMetaData.getPrimaryKeyColumns().get(0);
                 DataConsistencyCalculateParameter sourceParameter = buildParameter(sourceDataSource, each, columnNames, sourceDatabaseType, targetDatabaseType, uniqueKey);
                 DataConsistencyCalculateParameter targetParameter = buildParameter(targetDataSource, each, columnNames, targetDatabaseType, sourceDatabaseType, uniqueKey);
+                Object checkedUniqueKeyValue = chunked ? resumeCheckProgress(each, sourceParameter, targetParameter) : null;
                 Iterator<Object> sourceCalculatedResults = calculator.calculate(sourceParameter).iterator();
                 Iterator<Object> targetCalculatedResults = calculator.calculate(targetParameter).iterator();
                 boolean contentMatched = true;
@@ -180,12 +188,24 @@ public final class DataConsistencyChecker {
                     Object sourceCalculatedResult = sourceFuture.get();
                     Object targetCalculatedResult = targetFuture.get();
                     contentMatched = Objects.equals(sourceCalculatedResult, targetCalculatedResult);
+                    if (chunked) {
+                        Object maxUniqueKeyValue = ChunkDataConsistencyRechecker.getMaxUniqueKeyValue((CalculatedResult) sourceCalculatedResult, (CalculatedResult) targetCalculatedResult);
+                        contentMatched = contentMatched || recheck(sourceParameter, targetParameter, checkedUniqueKeyValue, maxUniqueKeyValue,
+                                Math.max(((CalculatedResult) sourceCalculatedResult).getRecordCount(), ((CalculatedResult) targetCalculatedResult).getRecordCount()));
+                        if (contentMatched) {
+                            checkedUniqueKeyValue = maxUniqueKeyValue;
+                            PipelineAPIFactory.getGovernanceRepositoryAPI().persistJobCheckProgress(jobConfig.getHandleConfig().getJobId(), each, checkedUniqueKeyValue);
+                        }
+                    }
                     if (!contentMatched) {
                         break;
                     }
                 }
                 result.put(each, new DataConsistencyContentCheckResult(contentMatched));
             }
+            if (chunked && result.values().stream().allMatch(DataConsistencyContentCheckResult::isMatched)) {
+                PipelineAPIFactory.getGovernanceRepositoryAPI().deleteJobCheckProgress(jobConfig.getHandleConfig().getJobId());
+            }
         } catch (final ExecutionException | InterruptedException | SQLException ex) {
             throw new PipelineDataConsistencyCheckFailedException("Data check failed", ex);
         } finally {
@@ -195,6 +215,28 @@ public final class DataConsistencyChecker {
         return result;
     }
     
+    private Object resumeCheckProgress(final String logicTableName, final DataConsistencyCalculateParameter sourceParameter, final DataConsistencyCalculateParameter targetParameter) {
+        Optional<Object> result = PipelineAPIFactory.getGovernanceRepositoryAPI().getJobCheckProgress(jobConfig.getHandleConfig().getJobId(), logicTableName);
+        if (result.isPresent()) {
+            log.info("Resume data check of table `{}` after unique key value {}", logicTableName, result.get());
+            CalculatedResult checkedCalculatedResult = new CalculatedResult(result.get(), 0, 0L);
+            sourceParameter.setPreviousCalculatedResult(checkedCalculatedResult);
+            targetParameter.setPreviousCalculatedResult(checkedCalculatedResult);
+        }
+        return result.orElse(null);
+    }
+    
+    private boolean recheck(final DataConsistencyCalculateParameter sourceParameter, final DataConsistencyCalculateParameter targetParameter,
+                            final Object checkedUniqueKeyValue, final Object maxUniqueKeyValue, final int chunkSize) {
+        if (!new ChunkDataConsistencyRechecker(sourceParameter, targetParameter).recheck(checkedUniqueKeyValue, maxUniqueKeyValue, chunkSize)) {
+            return false;
+        }
+        CalculatedResult recheckedCalculatedResult = new CalculatedResult(maxUniqueKeyValue, 0, 0L);
+        sourceParameter.setPreviousCalculatedResult(recheckedCalculatedResult);
+        targetParameter.setPreviousCalculatedResult(recheckedCalculatedResult);
+        return true;
+    }
+    
     private PipelineDataSourceConfiguration getPipelineDataSourceConfiguration(final DataConsistencyCalculateAlgorithm calculator, final YamlPipelineDataSourceConfiguration dataSourceConfig) {
         PipelineDataSourceConfiguration result = PipelineDataSourceConfigurationFactory.newInstance(dataSourceConfig.getType(), dataSourceConfig.getParameter());
         checkDatabaseTypeSupported(calculator.getSupportedDatabaseTypes(), result.getDatabaseType().getName());
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.collect.Range;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineDataConsistencyCheckFailedException;
+import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.PipelineSQLBuilderFactory;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Chunk CRC32 match data consistency calculate algorithm.
+ * Records are split into chunks ordered by unique key, only record count, max unique key value and checksum of every chunk are transferred.
+ * Previous calculated result is the exclusive lower bound of unique key, and upper endpoint of unique key value range is the inclusive upper bound.
+ */
+@Getter
+@Setter
+@Slf4j
+public final class ChunkCRC32MatchDataConsistencyCalculateAlgorithm extends AbstractStreamingDataConsistencyCalculateAlgorithm {
+    
+    private static final Collection<String> SUPPORTED_DATABASE_TYPES = Collections.singletonList(new MySQLDatabaseType().getName());
+    
+    private static final String CHUNK_SIZE_KEY = "chunk-size";
+    
+    private static final int DEFAULT_CHUNK_SIZE = 10000;
+    
+    private int chunkSize;
+    
+    private Properties props;
+    
+    @Override
+    public void init() {
+        chunkSize = getChunkSize();
+    }
+    
+    private int getChunkSize() {
+        int result = Integer.parseInt(props.getProperty(CHUNK_SIZE_KEY, DEFAULT_CHUNK_SIZE + ""));
+        if (result <= 0) {
+            log.warn("Invalid result={}, use default value", result);
+            return DEFAULT_CHUNK_SIZE;
+        }
+        return result;
+    }
+    
+    @Override
+    protected Optional<Object> calculateChunk(final DataConsistencyCalculateParameter parameter) {
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.newInstance(parameter.getDatabaseType());
+        CalculatedResult previousCalculatedResult = (CalculatedResult) parameter.getPreviousCalculatedResult();
+        Object lowerBound = null == previousCalculatedResult ? null : previousCalculatedResult.getMaxUniqueKeyValue();
+        Range<? extends Comparable<?>> uniqueKeyValueRange = parameter.getUniqueKeyValueRange();
+        Object upperBound = null == uniqueKeyValueRange || !uniqueKeyValueRange.hasUpperBound() ? null : uniqueKeyValueRange.upperEndpoint();
+        Optional<String> sql = sqlBuilder.buildChunkedCRC32SQL(parameter.getLogicTableName(), parameter.getColumnNames(), parameter.getUniqueKey(), null != lowerBound, null != upperBound);
+        if (!sql.isPresent()) {
+            throw new PipelineDataConsistencyCheckFailedException(
+                    String.format("Unsupported chunk CRC32 data consistency calculate algorithm with database type `%s`", parameter.getDatabaseType()));
+        }
+        try {
+            return query(parameter.getDataSource(), sql.get(), lowerBound, upperBound);
+        } catch (final SQLException ex) {
+            throw new PipelineDataConsistencyCheckFailedException(String.format("Table `%s` data check failed.", parameter.getLogicTableName()), ex);
+        }
+    }
+    
+    private Optional<Object> query(final DataSource dataSource, final String sql, final Object lowerBound, final Object upperBound) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            int parameterIndex = 1;
+            if (null != lowerBound) {
+                preparedStatement.setObject(parameterIndex++, lowerBound);
+            }
+            if (null != upperBound) {
+                preparedStatement.setObject(parameterIndex++, upperBound);
+            }
+            preparedStatement.setInt(parameterIndex, chunkSize);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return Optional.empty();
+                }
+                int recordCount = resultSet.getInt(1);
+                return 0 == recordCount ? Optional.empty() : Optional.of(new CalculatedResult(resultSet.getObject(2), recordCount, resultSet.getLong(3)));
+            }
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "CHUNK_CRC32_MATCH";
+    }
+    
+    @Override
+    public Collection<String> getSupportedDatabaseTypes() {
+        return SUPPORTED_DATABASE_TYPES;
+    }
+    
+    @Override
+    public String getDescription() {
+        return "Match CRC32 of records chunk by chunk.";
+    }
+    
+    /**
+     * Calculated result of chunk.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    @EqualsAndHashCode
+    @ToString
+    public static final class CalculatedResult {
+        
+        private final Object maxUniqueKeyValue;
+        
+        private final int recordCount;
+        
+        private final long checksum;
+    }
+}
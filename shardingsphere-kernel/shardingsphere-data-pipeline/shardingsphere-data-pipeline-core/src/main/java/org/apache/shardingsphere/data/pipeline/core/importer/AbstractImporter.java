@@ -26,20 +26,25 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.GroupedDataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobExecutionException;
 import org.apache.shardingsphere.data.pipeline.core.ingest.IngestDataChangeType;
 import org.apache.shardingsphere.data.pipeline.core.record.RecordUtil;
 import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 import org.apache.shardingsphere.data.pipeline.spi.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -59,10 +64,13 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     
     private final PipelineChannel channel;
     
+    private final JobRateLimitAlgorithm rateLimitAlgorithm;
+    
     protected AbstractImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
         this.importerConfig = importerConfig;
         this.dataSourceManager = dataSourceManager;
         this.channel = channel;
+        rateLimitAlgorithm = importerConfig.getRateLimitAlgorithm();
         pipelineSqlBuilder = createSQLBuilder(importerConfig.getShardingColumnsMap());
     }
     
@@ -138,11 +146,18 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void doFlush(final DataSource dataSource, final List<DataRecord> buffer) throws SQLException {
+        JobOperationType operationType = JobOperationType.valueOf(buffer.get(0).getType());
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.intercept(operationType, buffer.size());
+        }
+        long startTimeMillis = System.currentTimeMillis();
         try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
             switch (buffer.get(0).getType()) {
                 case IngestDataChangeType.INSERT:
-                    executeBatchInsert(connection, buffer);
+                    if (!bulkInsert(connection, buffer)) {
+                        executeBatchInsert(connection, buffer);
+                    }
                     break;
                 case IngestDataChangeType.UPDATE:
                     executeUpdate(connection, buffer);
@@ -155,6 +170,23 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
             }
             connection.commit();
         }
+        if (null != rateLimitAlgorithm) {
+            rateLimitAlgorithm.feedback(operationType, System.currentTimeMillis() - startTimeMillis);
+        }
+    }
+    
+    /**
+     * Bulk insert data records, e.g. by COPY, instead of batch INSERT statements.
+     *
+     * <p>Implementations must leave the transaction unchanged when returning false, batch INSERT will be executed then.</p>
+     *
+     * @param connection connection
+     * @param dataRecords data records of the same table
+     * @return whether data records are inserted
+     * @throws SQLException SQL exception
+     */
+    protected boolean bulkInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        return false;
     }
     
     private void executeBatchInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
@@ -172,27 +204,54 @@ public abstract class AbstractImporter extends AbstractLifecycleExecutor impleme
     }
     
     private void executeUpdate(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        Map<String, List<DataRecord>> batchUpdateRecords = new LinkedHashMap<>();
         for (DataRecord each : dataRecords) {
-            executeUpdate(connection, each);
+            List<Column> conditionColumns = RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName()));
+            String updateSql = pipelineSqlBuilder.buildUpdateSQL(each, conditionColumns);
+            if (isPrimaryKeyUpdated(conditionColumns)) {
+                executeUpdate(connection, updateSql, each, conditionColumns);
+            } else {
+                batchUpdateRecords.computeIfAbsent(updateSql, key -> new LinkedList<>()).add(each);
+            }
+        }
+        for (Entry<String, List<DataRecord>> entry : batchUpdateRecords.entrySet()) {
+            executeBatchUpdate(connection, entry.getKey(), entry.getValue());
         }
     }
     
-    private void executeUpdate(final Connection connection, final DataRecord record) throws SQLException {
-        List<Column> conditionColumns = RecordUtil.extractConditionColumns(record, importerConfig.getShardingColumnsMap().get(record.getTableName()));
-        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record.getColumns(), record);
-        String updateSql = pipelineSqlBuilder.buildUpdateSQL(record, conditionColumns);
+    private boolean isPrimaryKeyUpdated(final List<Column> conditionColumns) {
+        return conditionColumns.stream().anyMatch(each -> each.isPrimaryKey() && each.isUpdated());
+    }
+    
+    private void executeUpdate(final Connection connection, final String updateSql, final DataRecord record, final List<Column> conditionColumns) throws SQLException {
         try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
-            for (int i = 0; i < updatedColumns.size(); i++) {
-                ps.setObject(i + 1, updatedColumns.get(i).getValue());
-            }
-            for (int i = 0; i < conditionColumns.size(); i++) {
-                Column keyColumn = conditionColumns.get(i);
-                ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
-            }
+            setUpdateParameters(ps, record, conditionColumns);
             ps.execute();
         }
     }
     
+    private void executeBatchUpdate(final Connection connection, final String updateSql, final List<DataRecord> dataRecords) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement(updateSql)) {
+            ps.setQueryTimeout(30);
+            for (DataRecord each : dataRecords) {
+                setUpdateParameters(ps, each, RecordUtil.extractConditionColumns(each, importerConfig.getShardingColumnsMap().get(each.getTableName())));
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+    
+    private void setUpdateParameters(final PreparedStatement ps, final DataRecord record, final List<Column> conditionColumns) throws SQLException {
+        List<Column> updatedColumns = pipelineSqlBuilder.extractUpdatedColumns(record.getColumns(), record);
+        for (int i = 0; i < updatedColumns.size(); i++) {
+            ps.setObject(i + 1, updatedColumns.get(i).getValue());
+        }
+        for (int i = 0; i < conditionColumns.size(); i++) {
+            Column keyColumn = conditionColumns.get(i);
+            ps.setObject(updatedColumns.size() + i + 1, (keyColumn.isPrimaryKey() && keyColumn.isUpdated()) ? keyColumn.getOldValue() : keyColumn.getValue());
+        }
+    }
+    
     private void executeBatchDelete(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
         List<Column> conditionColumns = RecordUtil.extractConditionColumns(dataRecords.get(0), importerConfig.getShardingColumnsMap().get(dataRecords.get(0).getTableName()));
         String deleteSQL = pipelineSqlBuilder.buildDeleteSQL(dataRecords.get(0), conditionColumns);
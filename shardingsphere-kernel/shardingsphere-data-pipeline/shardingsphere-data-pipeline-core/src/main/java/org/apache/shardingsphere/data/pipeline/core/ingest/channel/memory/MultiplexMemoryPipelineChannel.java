@@ -17,21 +17,34 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord.Key;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Multiplex memory pipeline channel.
+ *
+ * <p>Data records are partitioned by table name and primary key, so records of the same key are always consumed in order by the same consumer.
+ * With more than one partition, acknowledged records are only passed to ack callback once every record pushed before them is acknowledged too.
+ * A record changing primary key waits until the partition holding its old key has acknowledged all pending records.</p>
  */
 @Slf4j
 public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
@@ -42,7 +55,9 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     private final PipelineChannel[] channels;
     
-    private final Map<String, Integer> channelAssignment = new HashMap<>();
+    private final Map<String, Integer> channelAssignment = new ConcurrentHashMap<>();
+    
+    private final OrderedAckCallback orderedAckCallback;
     
     public MultiplexMemoryPipelineChannel() {
         this(EMPTY_ACK_CALLBACK);
@@ -58,9 +73,11 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     public MultiplexMemoryPipelineChannel(final int channelNumber, final int blockQueueSize, final AckCallback ackCallback) {
         this.channelNumber = channelNumber;
+        orderedAckCallback = channelNumber > 1 ? new OrderedAckCallback(ackCallback, new int[channelNumber]) : null;
         channels = new PipelineChannel[channelNumber];
         for (int i = 0; i < channelNumber; i++) {
-            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, ackCallback);
+            int channelIndex = i;
+            channels[i] = new SimpleMemoryPipelineChannel(blockQueueSize, null == orderedAckCallback ? ackCallback : records -> orderedAckCallback.onAck(channelIndex, records));
         }
     }
     
@@ -68,10 +85,21 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     public void pushRecord(final Record record) {
         if (FinishedRecord.class.equals(record.getClass())) {
             for (int i = 0; i < channelNumber; i++) {
-                pushRecord(record, i);
+                register(record, i);
+            }
+            for (int i = 0; i < channelNumber; i++) {
+                channels[i].pushRecord(record);
             }
         } else if (DataRecord.class.equals(record.getClass())) {
-            pushRecord(record, Math.abs(record.hashCode() % channelNumber));
+            DataRecord dataRecord = (DataRecord) record;
+            int channelIndex = getChannelIndex(dataRecord.getKey());
+            if (null != orderedAckCallback && isPrimaryKeyChanged(dataRecord)) {
+                int oldChannelIndex = getChannelIndex(getOldKey(dataRecord));
+                if (oldChannelIndex != channelIndex) {
+                    orderedAckCallback.awaitPendingRecordsAcked(oldChannelIndex);
+                }
+            }
+            pushRecord(record, channelIndex);
         } else if (PlaceholderRecord.class.equals(record.getClass())) {
             pushRecord(record, 0);
         } else {
@@ -79,11 +107,41 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
         }
     }
     
+    private boolean isPrimaryKeyChanged(final DataRecord record) {
+        for (Column each : record.getColumns()) {
+            if (each.isPrimaryKey() && null != each.getOldValue() && !Objects.equals(each.getOldValue(), each.getValue())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private int getChannelIndex(final Key key) {
+        return Math.abs(key.hashCode() % channelNumber);
+    }
+    
+    private Key getOldKey(final DataRecord record) {
+        List<Object> oldPrimaryKeyValues = new LinkedList<>();
+        for (Column each : record.getColumns()) {
+            if (each.isPrimaryKey()) {
+                oldPrimaryKeyValues.add(null == each.getOldValue() ? each.getValue() : each.getOldValue());
+            }
+        }
+        return new Key(record.getTableName(), oldPrimaryKeyValues);
+    }
+    
     private void pushRecord(final Record record, final int channelIndex) {
+        register(record, channelIndex);
         PipelineChannel channel = channels[channelIndex];
         channel.pushRecord(record);
     }
     
+    private void register(final Record record, final int channelIndex) {
+        if (null != orderedAckCallback) {
+            orderedAckCallback.register(record, channelIndex);
+        }
+    }
+    
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
         return findChannel().fetchRecords(batchSize, timeoutSeconds);
@@ -121,8 +179,74 @@ public final class MultiplexMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void close() {
+        if (null != orderedAckCallback) {
+            orderedAckCallback.close();
+        }
         for (PipelineChannel each : channels) {
             each.close();
         }
     }
+    
+    @RequiredArgsConstructor
+    private static final class OrderedAckCallback {
+        
+        private final AckCallback delegate;
+        
+        private final int[] pendingRecordCounts;
+        
+        private final Deque<Record> pendingRecords = new ArrayDeque<>();
+        
+        private final Map<Record, Integer> remainingAckCounts = new IdentityHashMap<>();
+        
+        private boolean closed;
+        
+        private synchronized void register(final Record record, final int channelIndex) {
+            Integer remainingAckCount = remainingAckCounts.get(record);
+            if (null == remainingAckCount) {
+                pendingRecords.addLast(record);
+                remainingAckCounts.put(record, 1);
+            } else {
+                remainingAckCounts.put(record, remainingAckCount + 1);
+            }
+            pendingRecordCounts[channelIndex]++;
+        }
+        
+        private synchronized void onAck(final int channelIndex, final List<Record> records) {
+            pendingRecordCounts[channelIndex] -= records.size();
+            for (Record each : records) {
+                remainingAckCounts.computeIfPresent(each, (key, value) -> value - 1);
+            }
+            List<Record> ackedRecords = new LinkedList<>();
+            while (!pendingRecords.isEmpty() && 0 == remainingAckCounts.get(pendingRecords.peekFirst())) {
+                Record record = pendingRecords.pollFirst();
+                remainingAckCounts.remove(record);
+                ackedRecords.add(record);
+            }
+            if (!ackedRecords.isEmpty()) {
+                delegate.onAck(ackedRecords);
+            }
+            if (0 == pendingRecordCounts[channelIndex]) {
+                notifyAll();
+            }
+        }
+        
+        private synchronized void awaitPendingRecordsAcked(final int channelIndex) {
+            try {
+                while (!closed && pendingRecordCounts[channelIndex] > 0) {
+                    wait(1000L);
+                }
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("await pending records acked failed", ex);
+            }
+        }
+        
+        private synchronized void close() {
+            closed = true;
+            pendingRecords.clear();
+            remainingAckCounts.clear();
+            Arrays.fill(pendingRecordCounts, 0);
+            notifyAll();
+        }
+    }
 }
@@ -17,61 +17,134 @@
 
 package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
 
+import com.google.common.base.Preconditions;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
 import org.apache.shardingsphere.data.pipeline.core.ingest.channel.EmptyAckCallback;
-import org.apache.shardingsphere.data.pipeline.core.util.ThreadUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Simple memory pipeline channel.
+ * 
+ * <p>
+ * Records are kept in a pre-sized ring buffer guarded by one lock.
+ * Consumers wait on a condition until enough records for their batch are buffered or timeout reached, producers signal them when the smallest awaited batch is full.
+ * </p>
  */
 public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     
     private static final EmptyAckCallback EMPTY_ACK_CALLBACK = new EmptyAckCallback();
     
-    private final BlockingQueue<Record> queue;
+    private final Record[] elements;
     
     private final AckCallback ackCallback;
     
+    private final ReentrantLock lock = new ReentrantLock();
+    
+    private final Condition notFull = lock.newCondition();
+    
+    private final Condition batchReady = lock.newCondition();
+    
+    private int head;
+    
+    private int tail;
+    
+    private int count;
+    
+    private int waitingConsumerCount;
+    
+    private int awaitingBatchSize = Integer.MAX_VALUE;
+    
     public SimpleMemoryPipelineChannel(final int blockQueueSize) {
         this(blockQueueSize, EMPTY_ACK_CALLBACK);
     }
     
     public SimpleMemoryPipelineChannel(final int blockQueueSize, final AckCallback ackCallback) {
-        this.queue = new ArrayBlockingQueue<>(blockQueueSize);
+        Preconditions.checkArgument(blockQueueSize > 0, "Block queue size must be positive.");
+        elements = new Record[blockQueueSize];
         this.ackCallback = ackCallback;
     }
     
     @Override
     public void pushRecord(final Record dataRecord) {
+        lock.lock();
         try {
-            queue.put(dataRecord);
+            while (count == elements.length) {
+                notFull.await();
+            }
+            elements[tail] = dataRecord;
+            tail = next(tail);
+            count++;
+            if (count >= awaitingBatchSize) {
+                batchReady.signalAll();
+            }
         } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
             throw new RuntimeException("put " + dataRecord + " into queue failed", ex);
+        } finally {
+            lock.unlock();
         }
     }
     
-    // TODO thread-safe?
     @Override
     public List<Record> fetchRecords(final int batchSize, final int timeoutSeconds) {
-        List<Record> result = new ArrayList<>(batchSize);
-        long start = System.currentTimeMillis();
-        while (batchSize > queue.size()) {
-            if (timeoutSeconds * 1000L <= System.currentTimeMillis() - start) {
-                break;
+        lock.lock();
+        try {
+            if (count < batchSize) {
+                awaitBatch(batchSize, TimeUnit.SECONDS.toNanos(timeoutSeconds));
             }
-            ThreadUtil.sleep(100L);
+            return drain(batchSize);
+        } finally {
+            lock.unlock();
+        }
+    }
+    
+    private void awaitBatch(final int batchSize, final long timeoutNanos) {
+        long remainingNanos = timeoutNanos;
+        waitingConsumerCount++;
+        try {
+            while (count < batchSize && remainingNanos > 0L) {
+                awaitingBatchSize = Math.min(awaitingBatchSize, batchSize);
+                remainingNanos = batchReady.awaitNanos(remainingNanos);
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (0 == --waitingConsumerCount) {
+                awaitingBatchSize = Integer.MAX_VALUE;
+            }
+        }
+    }
+    
+    private List<Record> drain(final int batchSize) {
+        int drainCount = Math.min(batchSize, count);
+        List<Record> result = new ArrayList<>(drainCount);
+        for (int i = 0; i < drainCount; i++) {
+            result.add(elements[head]);
+            elements[head] = null;
+            head = next(head);
+        }
+        count -= drainCount;
+        if (drainCount > 0) {
+            notFull.signalAll();
+        }
+        if (count >= awaitingBatchSize) {
+            batchReady.signalAll();
         }
-        queue.drainTo(result, batchSize);
         return result;
     }
     
+    private int next(final int index) {
+        return elements.length == index + 1 ? 0 : index + 1;
+    }
+    
     @Override
     public void ack(final List<Record> records) {
         ackCallback.onAck(records);
@@ -79,6 +152,15 @@ public final class SimpleMemoryPipelineChannel implements PipelineChannel {
     
     @Override
     public void close() {
-        queue.clear();
+        lock.lock();
+        try {
+            Arrays.fill(elements, null);
+            head = 0;
+            tail = 0;
+            count = 0;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
     }
 }
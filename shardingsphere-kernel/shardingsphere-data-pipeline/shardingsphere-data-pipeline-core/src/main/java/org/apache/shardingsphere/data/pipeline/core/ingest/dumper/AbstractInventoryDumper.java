@@ -31,6 +31,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosit
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
@@ -95,14 +96,13 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
     }
     
     private void dump() {
-        String sql = getDumpSQL();
         IngestPosition<?> position = inventoryDumperConfig.getPosition();
-        log.info("inventory dump, sql={}, position={}", sql, position);
+        log.info("inventory dump, position={}", position);
         try (Connection conn = dataSource.getConnection()) {
             int round = 1;
-            Number startUniqueKeyValue = getPositionBeginValue(position) - 1;
-            Optional<Number> maxUniqueKeyValue;
-            while ((maxUniqueKeyValue = dump0(conn, sql, startUniqueKeyValue, round++)).isPresent()) {
+            Object startUniqueKeyValue = getPositionBeginValue(position);
+            Optional<Object> maxUniqueKeyValue;
+            while ((maxUniqueKeyValue = dump0(conn, startUniqueKeyValue, round++)).isPresent()) {
                 startUniqueKeyValue = maxUniqueKeyValue.get();
                 if (!isRunning()) {
                     log.info("inventory dump, running is false, break");
@@ -119,10 +119,20 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
-    private String getDumpSQL() {
+    private String getDumpSQL(final boolean lowerBounded, final boolean upperBounded) {
         String tableName = inventoryDumperConfig.getTableName();
         String primaryKey = inventoryDumperConfig.getPrimaryKey();
-        return "SELECT * FROM " + tableName + " WHERE " + primaryKey + " > ? AND " + primaryKey + " <= ? ORDER BY " + primaryKey + " ASC LIMIT ?";
+        StringBuilder result = new StringBuilder("SELECT * FROM ").append(tableName);
+        if (lowerBounded || upperBounded) {
+            result.append(" WHERE ");
+        }
+        if (lowerBounded) {
+            result.append(primaryKey).append(" > ?");
+        }
+        if (upperBounded) {
+            result.append(lowerBounded ? " AND " : "").append(primaryKey).append(" <= ?");
+        }
+        return result.append(" ORDER BY ").append(primaryKey).append(" ASC LIMIT ?").toString();
     }
     
     @SneakyThrows(ConcurrentException.class)
@@ -130,19 +140,30 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         return tableMetaDataLazyInitializer.get();
     }
     
-    private Optional<Number> dump0(final Connection conn, final String sql, final Number startUniqueKeyValue, final int round) throws SQLException {
+    private Optional<Object> dump0(final Connection conn, final Object startUniqueKeyValue, final int round) throws SQLException {
         if (null != rateLimitAlgorithm) {
             rateLimitAlgorithm.intercept(JobOperationType.SELECT, 1);
         }
         PipelineTableMetaData tableMetaData = getTableMetaData();
+        Object endUniqueKeyValue = getPositionEndValue(inventoryDumperConfig.getPosition());
+        String sql = getDumpSQL(null != startUniqueKeyValue, null != endUniqueKeyValue);
         try (PreparedStatement preparedStatement = createPreparedStatement(conn, sql)) {
-            preparedStatement.setObject(1, startUniqueKeyValue);
-            preparedStatement.setObject(2, getPositionEndValue(inventoryDumperConfig.getPosition()));
-            preparedStatement.setInt(3, batchSize);
+            int parameterIndex = 1;
+            if (null != startUniqueKeyValue) {
+                preparedStatement.setObject(parameterIndex++, startUniqueKeyValue);
+            }
+            if (null != endUniqueKeyValue) {
+                preparedStatement.setObject(parameterIndex++, endUniqueKeyValue);
+            }
+            preparedStatement.setInt(parameterIndex, batchSize);
+            long startTimeMillis = System.currentTimeMillis();
             try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                if (null != rateLimitAlgorithm) {
+                    rateLimitAlgorithm.feedback(JobOperationType.SELECT, System.currentTimeMillis() - startTimeMillis);
+                }
                 ResultSetMetaData metaData = resultSet.getMetaData();
                 int rowCount = 0;
-                Number maxUniqueKeyValue = null;
+                Object maxUniqueKeyValue = null;
                 while (resultSet.next()) {
                     DataRecord record = new DataRecord(newPosition(resultSet), metaData.getColumnCount());
                     record.setType(IngestDataChangeType.INSERT);
@@ -151,7 +172,7 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
                         boolean isPrimaryKey = tableMetaData.isPrimaryKey(i - 1);
                         Object value = readValue(resultSet, i);
                         if (isPrimaryKey) {
-                            maxUniqueKeyValue = (Number) value;
+                            maxUniqueKeyValue = value;
                         }
                         record.addColumn(new Column(metaData.getColumnName(i), value, true, isPrimaryKey));
                     }
@@ -170,17 +191,28 @@ public abstract class AbstractInventoryDumper extends AbstractLifecycleExecutor
         }
     }
     
-    private long getPositionBeginValue(final IngestPosition<?> position) {
-        return position instanceof PrimaryKeyPosition ? ((PrimaryKeyPosition) position).getBeginValue() : 0;
+    private Object getPositionBeginValue(final IngestPosition<?> position) {
+        if (position instanceof StringPrimaryKeyPosition) {
+            return ((StringPrimaryKeyPosition) position).getBeginValue();
+        }
+        return (position instanceof PrimaryKeyPosition ? ((PrimaryKeyPosition) position).getBeginValue() : 0) - 1;
     }
     
-    private long getPositionEndValue(final IngestPosition<?> position) {
+    private Object getPositionEndValue(final IngestPosition<?> position) {
+        if (position instanceof StringPrimaryKeyPosition) {
+            return ((StringPrimaryKeyPosition) position).getEndValue();
+        }
         return position instanceof PrimaryKeyPosition ? ((PrimaryKeyPosition) position).getEndValue() : Integer.MAX_VALUE;
     }
     
     private IngestPosition<?> newPosition(final ResultSet rs) throws SQLException {
-        return null == inventoryDumperConfig.getPrimaryKey() ? new PlaceholderPosition()
-                : new PrimaryKeyPosition(rs.getLong(inventoryDumperConfig.getPrimaryKey()), ((PrimaryKeyPosition) inventoryDumperConfig.getPosition()).getEndValue());
+        String primaryKey = inventoryDumperConfig.getPrimaryKey();
+        if (null == primaryKey) {
+            return new PlaceholderPosition();
+        }
+        IngestPosition<?> position = inventoryDumperConfig.getPosition();
+        return position instanceof StringPrimaryKeyPosition ? new StringPrimaryKeyPosition(rs.getString(primaryKey), ((StringPrimaryKeyPosition) position).getEndValue())
+                : new PrimaryKeyPosition(rs.getLong(primaryKey), ((PrimaryKeyPosition) position).getEndValue());
     }
     
     protected abstract PreparedStatement createPreparedStatement(Connection connection, String sql) throws SQLException;
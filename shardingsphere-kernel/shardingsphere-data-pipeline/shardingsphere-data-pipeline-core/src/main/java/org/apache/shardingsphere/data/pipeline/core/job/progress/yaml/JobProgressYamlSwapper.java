@@ -19,8 +19,10 @@ package org.apache.shardingsphere.data.pipeline.core.job.progress.yaml;
 
 import com.google.common.base.Strings;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.FinishedPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobProgress;
 import org.apache.shardingsphere.data.pipeline.api.task.progress.IncrementalTaskProgress;
@@ -52,6 +54,8 @@ public final class JobProgressYamlSwapper {
         result.setSourceDatabaseType(jobProgress.getSourceDatabaseType());
         result.setInventory(getYamlInventory(jobProgress.getInventoryTaskProgressMap()));
         result.setIncremental(getYamlIncremental(jobProgress.getIncrementalTaskProgressMap()));
+        result.setInputRateLimit(jobProgress.getInputRateLimit());
+        result.setOutputRateLimit(jobProgress.getOutputRateLimit());
         return result;
     }
     
@@ -97,6 +101,8 @@ public final class JobProgressYamlSwapper {
         result.setSourceDatabaseType(yamlJobProgress.getSourceDatabaseType());
         result.setInventoryTaskProgressMap(getInventoryTaskProgressMap(yamlJobProgress.getInventory()));
         result.setIncrementalTaskProgressMap(getIncrementalTaskProgressMap(yamlJobProgress.getSourceDatabaseType(), yamlJobProgress.getIncremental()));
+        result.setInputRateLimit(yamlJobProgress.getInputRateLimit());
+        result.setOutputRateLimit(yamlJobProgress.getOutputRateLimit());
         return result;
     }
     
@@ -111,7 +117,14 @@ public final class JobProgressYamlSwapper {
     }
     
     private Function<Entry<String, String>, InventoryTaskProgress> getInventoryTaskProgressFunction() {
-        return entry -> new InventoryTaskProgress(Strings.isNullOrEmpty(entry.getValue()) ? new PlaceholderPosition() : PrimaryKeyPosition.init(entry.getValue()));
+        return entry -> new InventoryTaskProgress(getInventoryPosition(entry.getValue()));
+    }
+    
+    private IngestPosition<?> getInventoryPosition(final String position) {
+        if (Strings.isNullOrEmpty(position)) {
+            return new PlaceholderPosition();
+        }
+        return StringPrimaryKeyPosition.isStringPrimaryKeyPosition(position) ? StringPrimaryKeyPosition.init(position) : PrimaryKeyPosition.init(position);
     }
     
     private Map<String, IncrementalTaskProgress> getIncrementalTaskProgressMap(final String databaseType, final Map<String, YamlJobProgress.YamlIncremental> incremental) {
@@ -39,6 +39,10 @@ public final class YamlJobProgress {
     
     private Map<String, YamlIncremental> incremental;
     
+    private Double inputRateLimit;
+    
+    private Double outputRateLimit;
+    
     @Getter
     @Setter
     public static final class YamlInventory {
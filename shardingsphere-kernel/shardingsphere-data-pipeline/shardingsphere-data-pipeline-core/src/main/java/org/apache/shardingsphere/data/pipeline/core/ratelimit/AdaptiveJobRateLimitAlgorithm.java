@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Adaptive job rate limit algorithm.
+ *
+ * <p>Rate is adjusted by feedback latency with AIMD: it's increased by step when latency is under threshold, and multiplied by factor when latency exceeds threshold.</p>
+ */
+@Slf4j
+public final class AdaptiveJobRateLimitAlgorithm implements JobRateLimitAlgorithm {
+    
+    public static final String MIN_RATE_KEY = "min-rate";
+    
+    public static final String MAX_RATE_KEY = "max-rate";
+    
+    public static final String INCREASE_STEP_KEY = "increase-step";
+    
+    public static final String DECREASE_FACTOR_KEY = "decrease-factor";
+    
+    public static final String LATENCY_THRESHOLD_MILLIS_KEY = "latency-threshold-millis";
+    
+    @Getter
+    @Setter
+    private Properties props = new Properties();
+    
+    private double minRate;
+    
+    private double maxRate;
+    
+    private double increaseStep;
+    
+    private double decreaseFactor;
+    
+    private long latencyThresholdMillis;
+    
+    private volatile double rate;
+    
+    private RateLimiter rateLimiter;
+    
+    @Override
+    public void init() {
+        minRate = Double.parseDouble(props.getProperty(MIN_RATE_KEY, "10"));
+        maxRate = Double.parseDouble(props.getProperty(MAX_RATE_KEY, "10000"));
+        Preconditions.checkArgument(minRate > 0 && minRate <= maxRate, "min rate must be positive and not greater than max rate.");
+        increaseStep = Double.parseDouble(props.getProperty(INCREASE_STEP_KEY, String.valueOf(maxRate / 100)));
+        Preconditions.checkArgument(increaseStep > 0, "increase step must be positive.");
+        decreaseFactor = Double.parseDouble(props.getProperty(DECREASE_FACTOR_KEY, "0.5"));
+        Preconditions.checkArgument(decreaseFactor > 0 && decreaseFactor < 1, "decrease factor must be between 0 and 1.");
+        latencyThresholdMillis = Long.parseLong(props.getProperty(LATENCY_THRESHOLD_MILLIS_KEY, "500"));
+        Preconditions.checkArgument(latencyThresholdMillis > 0, "latency threshold must be positive.");
+        rate = maxRate;
+        rateLimiter = RateLimiter.create(rate);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+    
+    @Override
+    public void intercept(final JobOperationType type, final Number data) {
+        if (JobOperationType.SYSTEM_LOAD == type || JobOperationType.CPU_USAGE == type) {
+            return;
+        }
+        rateLimiter.acquire(null == data ? 1 : Math.max(1, data.intValue()));
+    }
+    
+    @Override
+    public synchronized void feedback(final JobOperationType type, final long latencyMillis) {
+        double newRate = latencyMillis > latencyThresholdMillis ? Math.max(minRate, rate * decreaseFactor) : Math.min(maxRate, rate + increaseStep);
+        if (newRate == rate) {
+            return;
+        }
+        if (newRate < rate) {
+            log.info("{} latency {}ms exceeds threshold {}ms, decrease rate from {} to {}", type, latencyMillis, latencyThresholdMillis, rate, newRate);
+        }
+        rate = newRate;
+        rateLimiter.setRate(newRate);
+    }
+    
+    @Override
+    public Optional<Double> getCurrentRate() {
+        return Optional.of(rate);
+    }
+}
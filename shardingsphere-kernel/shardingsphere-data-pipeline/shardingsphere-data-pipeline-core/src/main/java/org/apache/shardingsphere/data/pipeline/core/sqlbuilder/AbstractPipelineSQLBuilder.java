@@ -180,4 +180,11 @@ public abstract class AbstractPipelineSQLBuilder implements PipelineSQLBuilder {
         String quotedKey = quote(primaryKey).toString();
         return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s WHERE %s>=? ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, quote(tableName), quotedKey, quotedKey);
     }
+    
+    @Override
+    public String buildSplitByStringPrimaryKeyRangeSQL(final String tableName, final String primaryKey, final boolean firstQuery) {
+        String quotedKey = quote(primaryKey).toString();
+        String where = firstQuery ? "" : String.format(" WHERE %s>?", quotedKey);
+        return String.format("SELECT MAX(%s) FROM (SELECT %s FROM %s%s ORDER BY %s LIMIT ?) t", quotedKey, quotedKey, quote(tableName), where, quotedKey);
+    }
 }
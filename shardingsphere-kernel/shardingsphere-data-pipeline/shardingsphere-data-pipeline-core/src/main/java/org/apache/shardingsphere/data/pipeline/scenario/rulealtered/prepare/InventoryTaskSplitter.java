@@ -25,6 +25,7 @@ import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfig
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.api.job.JobStatus;
 import org.apache.shardingsphere.data.pipeline.api.job.progress.JobProgress;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
@@ -39,6 +40,7 @@ import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredC
 import org.apache.shardingsphere.data.pipeline.scenario.rulealtered.RuleAlteredJobContext;
 import org.apache.shardingsphere.data.pipeline.spi.ingest.channel.PipelineChannelFactory;
 import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
+import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.apache.shardingsphere.infra.config.rulealtered.OnRuleAlteredActionConfiguration.InputConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.pojo.rulealtered.YamlOnRuleAlteredActionConfiguration.YamlInputConfiguration;
 import org.apache.shardingsphere.infra.yaml.config.swapper.rulealtered.OnRuleAlteredActionConfigurationYamlSwapper.InputConfigurationSwapper;
@@ -132,7 +134,7 @@ public final class InventoryTaskSplitter {
         if (null != initProgress && initProgress.getStatus() != JobStatus.PREPARING_FAILURE) {
             Collection<IngestPosition<?>> result = initProgress.getInventoryPosition(dumperConfig.getTableName()).values();
             for (IngestPosition<?> each : result) {
-                if (each instanceof PrimaryKeyPosition) {
+                if (each instanceof PrimaryKeyPosition || each instanceof StringPrimaryKeyPosition) {
                     String primaryKey = metaDataLoader.getTableMetaData(dumperConfig.getTableName()).getPrimaryKeyColumns().get(0);
                     dumperConfig.setPrimaryKey(primaryKey);
                     break;
@@ -145,7 +147,9 @@ public final class InventoryTaskSplitter {
         if (isSpiltByPrimaryKeyRange(tableMetaData, dumperConfig.getTableName())) {
             String primaryKey = tableMetaData.getPrimaryKeyColumns().get(0);
             dumperConfig.setPrimaryKey(primaryKey);
-            return getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig);
+            return isIntegerPrimary(tableMetaData.getColumnMetaData(primaryKey).getDataType())
+                    ? getPositionByPrimaryKeyRange(jobContext, dataSource, dumperConfig)
+                    : getPositionByStringPrimaryKeyRange(jobContext, dataSource, dumperConfig);
         }
         throw new PipelineJobCreationException("Can not split by primary key range for table " + dumperConfig.getTableName());
     }
@@ -164,15 +168,20 @@ public final class InventoryTaskSplitter {
             log.warn("Can't split range for table {}, reason: primary key is union primary", tableName);
             return false;
         }
-        if (isNotIntegerPrimary(tableMetaData.getColumnMetaData(primaryKeys.get(0)).getDataType())) {
-            log.warn("Can't split range for table {}, reason: primary key is not integer number", tableName);
+        int primaryKeyDataType = tableMetaData.getColumnMetaData(primaryKeys.get(0)).getDataType();
+        if (!isIntegerPrimary(primaryKeyDataType) && !isStringPrimary(primaryKeyDataType)) {
+            log.warn("Can't split range for table {}, reason: primary key is neither integer number nor string", tableName);
             return false;
         }
         return true;
     }
     
-    private boolean isNotIntegerPrimary(final int columnType) {
-        return Types.INTEGER != columnType && Types.BIGINT != columnType && Types.SMALLINT != columnType && Types.TINYINT != columnType;
+    private boolean isIntegerPrimary(final int columnType) {
+        return Types.INTEGER == columnType || Types.BIGINT == columnType || Types.SMALLINT == columnType || Types.TINYINT == columnType;
+    }
+    
+    private boolean isStringPrimary(final int columnType) {
+        return Types.CHAR == columnType || Types.VARCHAR == columnType || Types.NCHAR == columnType || Types.NVARCHAR == columnType;
     }
     
     private Collection<IngestPosition<?>> getPositionByPrimaryKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource, final InventoryDumperConfiguration dumperConfig) {
@@ -210,4 +219,47 @@ public final class InventoryTaskSplitter {
         }
         return result;
     }
+    
+    private Collection<IngestPosition<?>> getPositionByStringPrimaryKeyRange(final RuleAlteredJobContext jobContext, final DataSource dataSource,
+                                                                          final InventoryDumperConfiguration dumperConfig) {
+        Collection<IngestPosition<?>> result = new ArrayList<>();
+        JobConfiguration jobConfig = jobContext.getJobConfig();
+        PipelineSQLBuilder sqlBuilder = PipelineSQLBuilderFactory.newInstance(jobConfig.getHandleConfig().getSourceDatabaseType());
+        String firstSQL = sqlBuilder.buildSplitByStringPrimaryKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey(), true);
+        String sql = sqlBuilder.buildSplitByStringPrimaryKeyRangeSQL(dumperConfig.getTableName(), dumperConfig.getPrimaryKey(), false);
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement firstPreparedStatement = connection.prepareStatement(firstSQL);
+                PreparedStatement ps = connection.prepareStatement(sql)) {
+            String beginId = null;
+            for (int i = 0; i < Integer.MAX_VALUE; i++) {
+                PreparedStatement currentPreparedStatement = null == beginId ? firstPreparedStatement : ps;
+                int parameterIndex = 1;
+                if (null != beginId) {
+                    currentPreparedStatement.setString(parameterIndex++, beginId);
+                }
+                currentPreparedStatement.setLong(parameterIndex, jobConfig.getHandleConfig().getShardingSize());
+                try (ResultSet rs = currentPreparedStatement.executeQuery()) {
+                    if (!rs.next()) {
+                        log.info("getPositionByStringPrimaryKeyRange, rs.next false, break");
+                        break;
+                    }
+                    String endId = rs.getString(1);
+                    if (null == endId) {
+                        log.info("getPositionByStringPrimaryKeyRange, endId is null, break, tableName={}, primaryKey={}, beginId={}", dumperConfig.getTableName(), dumperConfig.getPrimaryKey(), beginId);
+                        break;
+                    }
+                    result.add(new StringPrimaryKeyPosition(beginId, endId));
+                    beginId = endId;
+                }
+            }
+            // fix empty table missing inventory task
+            if (0 == result.size()) {
+                result.add(new StringPrimaryKeyPosition(null, null));
+            }
+        } catch (final SQLException ex) {
+            throw new PipelineJobPrepareFailedException(String.format("Split task for table %s by primary key %s error", dumperConfig.getTableName(), dumperConfig.getPrimaryKey()), ex);
+        }
+        return result;
+    }
 }
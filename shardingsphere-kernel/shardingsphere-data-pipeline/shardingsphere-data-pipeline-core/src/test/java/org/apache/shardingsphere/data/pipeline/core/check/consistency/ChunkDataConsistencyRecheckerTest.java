@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.shardingsphere.data.pipeline.core.check.consistency;
+
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ChunkDataConsistencyRecheckerTest {
+    
+    private static final String SQL = "SELECT COUNT(*), MAX(id), CRC32(id,foo_col) FROM foo_tbl WHERE id>? AND id<=?";
+    
+    @Mock
+    private PipelineDataSourceWrapper sourceDataSource;
+    
+    @Mock
+    private PipelineDataSourceWrapper targetDataSource;
+    
+    @Mock
+    private Connection sourceConnection;
+    
+    @Mock
+    private Connection targetConnection;
+    
+    private ChunkDataConsistencyRechecker rechecker;
+    
+    @Before
+    public void setUp() throws SQLException {
+        when(sourceDataSource.getConnection()).thenReturn(sourceConnection);
+        when(targetDataSource.getConnection()).thenReturn(targetConnection);
+        rechecker = new ChunkDataConsistencyRechecker(createParameter(sourceDataSource), createParameter(targetDataSource));
+    }
+    
+    private DataConsistencyCalculateParameter createParameter(final PipelineDataSourceWrapper dataSource) {
+        return new DataConsistencyCalculateParameter(dataSource, "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", "id");
+    }
+    
+    @Test
+    public void assertRecheckMatched() throws SQLException {
+        PreparedStatement sourceLastPreparedStatement = mockPreparedStatement(0, null, 0L);
+        mockPreparedStatements(sourceConnection, mockPreparedStatement(1, 1L, 10L), mockPreparedStatement(1, 2L, 20L), sourceLastPreparedStatement);
+        mockPreparedStatements(targetConnection, mockPreparedStatement(1, 1L, 10L), mockPreparedStatement(1, 2L, 20L), mockPreparedStatement(0, null, 0L));
+        assertTrue(rechecker.recheck(0L, 2L, 10));
+        verify(sourceLastPreparedStatement).setObject(1, 2L);
+        verify(sourceLastPreparedStatement).setObject(2, 2L);
+        verify(sourceLastPreparedStatement).setInt(3, 1);
+    }
+    
+    @Test
+    public void assertRecheckNotMatched() throws SQLException {
+        mockPreparedStatements(sourceConnection, mockPreparedStatement(1, 1L, 10L), mockPreparedStatement(1, 2L, 20L));
+        mockPreparedStatements(targetConnection, mockPreparedStatement(1, 1L, 10L), mockPreparedStatement(1, 2L, 21L));
+        assertFalse(rechecker.recheck(0L, 2L, 10));
+    }
+    
+    @Test
+    public void assertRecheckFinerChunkNotMatched() throws SQLException {
+        mockPreparedStatements(sourceConnection, mockPreparedStatement(10, 10L, 100L), mockPreparedStatement(1, 1L, 10L), mockPreparedStatement(1, 2L, 20L));
+        mockPreparedStatements(targetConnection, mockPreparedStatement(10, 10L, 101L), mockPreparedStatement(1, 1L, 10L), mockPreparedStatement(1, 2L, 21L));
+        assertFalse(rechecker.recheck(0L, 10L, 100));
+    }
+    
+    private void mockPreparedStatements(final Connection connection, final PreparedStatement preparedStatement, final PreparedStatement... nextPreparedStatements) throws SQLException {
+        when(connection.prepareStatement(SQL)).thenReturn(preparedStatement, nextPreparedStatements);
+    }
+    
+    private PreparedStatement mockPreparedStatement(final int recordCount, final Object maxUniqueKeyValue, final long checksum) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(recordCount);
+        if (recordCount > 0) {
+            when(resultSet.getObject(2)).thenReturn(maxUniqueKeyValue);
+            when(resultSet.getLong(3)).thenReturn(checksum);
+        }
+        return result;
+    }
+}
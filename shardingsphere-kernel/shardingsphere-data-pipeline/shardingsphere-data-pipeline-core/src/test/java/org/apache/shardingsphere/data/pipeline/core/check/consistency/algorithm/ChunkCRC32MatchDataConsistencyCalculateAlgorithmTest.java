@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm;
+
+import com.google.common.collect.Range;
+import org.apache.shardingsphere.data.pipeline.api.check.consistency.DataConsistencyCalculateParameter;
+import org.apache.shardingsphere.data.pipeline.api.datasource.PipelineDataSourceWrapper;
+import org.apache.shardingsphere.data.pipeline.core.check.consistency.algorithm.ChunkCRC32MatchDataConsistencyCalculateAlgorithm.CalculatedResult;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class ChunkCRC32MatchDataConsistencyCalculateAlgorithmTest {
+    
+    private DataConsistencyCalculateParameter parameter;
+    
+    @Mock
+    private PipelineDataSourceWrapper pipelineDataSource;
+    
+    @Mock
+    private Connection connection;
+    
+    private ChunkCRC32MatchDataConsistencyCalculateAlgorithm algorithm;
+    
+    @Before
+    public void setUp() throws SQLException {
+        parameter = new DataConsistencyCalculateParameter(pipelineDataSource, "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", "id");
+        when(pipelineDataSource.getConnection()).thenReturn(connection);
+        algorithm = new ChunkCRC32MatchDataConsistencyCalculateAlgorithm();
+        Properties props = new Properties();
+        props.setProperty("chunk-size", "2");
+        algorithm.setProps(props);
+        algorithm.init();
+    }
+    
+    @Test
+    public void assertCalculate() throws SQLException {
+        PreparedStatement firstPreparedStatement = mockPreparedStatement(2, 2L, 100L);
+        when(connection.prepareStatement("SELECT COUNT(*), MAX(id), CRC32(id,foo_col) FROM foo_tbl")).thenReturn(firstPreparedStatement);
+        PreparedStatement nextPreparedStatement = mockPreparedStatement(0, null, 0L);
+        when(connection.prepareStatement("SELECT COUNT(*), MAX(id), CRC32(id,foo_col) FROM foo_tbl WHERE id>?")).thenReturn(nextPreparedStatement);
+        Iterator<Object> actual = algorithm.calculate(parameter).iterator();
+        assertTrue(actual.hasNext());
+        assertNotNull(actual.next());
+        verify(firstPreparedStatement).setInt(1, 2);
+        assertFalse(actual.hasNext());
+        verify(nextPreparedStatement).setObject(1, 2L);
+        verify(nextPreparedStatement).setInt(2, 2);
+    }
+    
+    @Test
+    public void assertCalculateWithUniqueKeyValueRange() throws SQLException {
+        PreparedStatement preparedStatement = mockPreparedStatement(0, null, 0L);
+        when(connection.prepareStatement("SELECT COUNT(*), MAX(id), CRC32(id,foo_col) FROM foo_tbl WHERE id>? AND id<=?")).thenReturn(preparedStatement);
+        parameter.setPreviousCalculatedResult(new CalculatedResult(1L, 1, 0L));
+        parameter.setUniqueKeyValueRange(Range.atMost(5L));
+        assertFalse(algorithm.calculate(parameter).iterator().hasNext());
+        verify(preparedStatement).setObject(1, 1L);
+        verify(preparedStatement).setObject(2, 5L);
+        verify(preparedStatement).setInt(3, 2);
+    }
+    
+    @Test
+    public void assertChecksumNotMatched() throws SQLException {
+        PreparedStatement preparedStatement1 = mockPreparedStatement(2, 2L, 100L);
+        PreparedStatement preparedStatement2 = mockPreparedStatement(2, 2L, 101L);
+        when(connection.prepareStatement("SELECT COUNT(*), MAX(id), CRC32(id,foo_col) FROM foo_tbl")).thenReturn(preparedStatement1, preparedStatement2);
+        Object actual1 = algorithm.calculate(parameter).iterator().next();
+        Object actual2 = algorithm.calculate(new DataConsistencyCalculateParameter(pipelineDataSource, "foo_tbl", Arrays.asList("id", "foo_col"), "FIXTURE", "FIXTURE", "id")).iterator().next();
+        assertThat(actual1, not(actual2));
+    }
+    
+    private PreparedStatement mockPreparedStatement(final int recordCount, final Object maxUniqueKeyValue, final long checksum) throws SQLException {
+        ResultSet resultSet = mock(ResultSet.class);
+        PreparedStatement result = mock(PreparedStatement.class);
+        when(result.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(recordCount);
+        if (recordCount > 0) {
+            when(resultSet.getObject(2)).thenReturn(maxUniqueKeyValue);
+            when(resultSet.getLong(3)).thenReturn(checksum);
+        }
+        return result;
+    }
+}
@@ -73,11 +73,22 @@ public final class FixturePipelineSQLBuilder implements PipelineSQLBuilder {
         return "";
     }
     
+    @Override
+    public String buildSplitByStringPrimaryKeyRangeSQL(final String tableName, final String primaryKey, final boolean firstQuery) {
+        return "";
+    }
+    
     @Override
     public Optional<String> buildCRC32SQL(final String tableName, final String column) {
         return Optional.of(String.format("SELECT CRC32(%s) FROM %s", column, tableName));
     }
     
+    @Override
+    public Optional<String> buildChunkedCRC32SQL(final String tableName, final Collection<String> columnNames, final String uniqueKey, final boolean hasLowerBound, final boolean hasUpperBound) {
+        return Optional.of(String.format("SELECT COUNT(*), MAX(%s), CRC32(%s) FROM %s%s%s", uniqueKey, String.join(",", columnNames), tableName,
+                hasLowerBound ? " WHERE " + uniqueKey + ">?" : "", hasUpperBound ? (hasLowerBound ? " AND " : " WHERE ") + uniqueKey + "<=?" : ""));
+    }
+    
     @Override
     public String getType() {
         return "FIXTURE";
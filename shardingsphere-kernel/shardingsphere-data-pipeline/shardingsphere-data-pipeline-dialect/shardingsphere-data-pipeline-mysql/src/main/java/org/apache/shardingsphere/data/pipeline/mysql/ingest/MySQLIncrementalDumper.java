@@ -51,6 +51,8 @@ import org.apache.shardingsphere.infra.database.type.DatabaseTypeRegistry;
 
 import java.io.Serializable;
 import java.security.SecureRandom;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Random;
@@ -71,6 +73,8 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     
     private final PipelineChannel channel;
     
+    private final Map<String, Optional<MySQLDataTypeHandler>> dataTypeHandlers = new HashMap<>();
+    
     public MySQLIncrementalDumper(final DumperConfiguration dumperConfig, final IngestPosition<BinlogPosition> binlogPosition,
                                   final PipelineChannel channel, final PipelineTableMetaDataLoader metaDataLoader) {
         super(dumperConfig, binlogPosition, channel, metaDataLoader);
@@ -92,12 +96,13 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
         DataSourceMetaData metaData = DatabaseTypeRegistry.getActualDatabaseType("MySQL").getDataSourceMetaData(jdbcConfig.getJdbcUrl(), null);
         MySQLClient client = new MySQLClient(new ConnectInfo(random.nextInt(), metaData.getHostname(), metaData.getPort(), jdbcConfig.getUsername(), jdbcConfig.getPassword()));
         client.connect();
-        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition());
+        String catalog = metaData.getCatalog();
+        client.subscribe(binlogPosition.getFilename(), binlogPosition.getPosition(), (schemaName, tableName) -> !filter(catalog, schemaName, tableName));
         int eventCount = 0;
         while (isRunning()) {
             AbstractBinlogEvent event = client.poll();
             if (null != event) {
-                handleEvent(metaData.getCatalog(), event);
+                handleEvent(catalog, event);
                 eventCount++;
             }
         }
@@ -106,7 +111,7 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     }
     
     private void handleEvent(final String catalog, final AbstractBinlogEvent event) {
-        if (event instanceof PlaceholderEvent || filter(catalog, (AbstractRowsEvent) event)) {
+        if (event instanceof PlaceholderEvent || filter(catalog, ((AbstractRowsEvent) event).getSchemaName(), ((AbstractRowsEvent) event).getTableName())) {
             createPlaceholderRecord(event);
             return;
         }
@@ -119,8 +124,8 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
         }
     }
     
-    private boolean filter(final String database, final AbstractRowsEvent event) {
-        return !event.getSchemaName().equals(database) || !dumperConfig.getTableNameMap().containsKey(event.getTableName());
+    private boolean filter(final String database, final String schemaName, final String tableName) {
+        return !schemaName.equals(database) || !dumperConfig.getTableNameMap().containsKey(tableName);
     }
     
     private void handleWriteRowsEvent(final WriteRowsEvent event) {
@@ -170,7 +175,7 @@ public final class MySQLIncrementalDumper extends AbstractIncrementalDumper<Binl
     }
     
     private Serializable handleValue(final PipelineColumnMetaData columnMetaData, final Serializable value) {
-        Optional<MySQLDataTypeHandler> dataTypeHandler = MySQLDataTypeHandlerFactory.newInstance(columnMetaData.getDataTypeName());
+        Optional<MySQLDataTypeHandler> dataTypeHandler = dataTypeHandlers.computeIfAbsent(columnMetaData.getDataTypeName(), MySQLDataTypeHandlerFactory::newInstance);
         return dataTypeHandler.isPresent() ? dataTypeHandler.get().handle(value) : value;
     }
     
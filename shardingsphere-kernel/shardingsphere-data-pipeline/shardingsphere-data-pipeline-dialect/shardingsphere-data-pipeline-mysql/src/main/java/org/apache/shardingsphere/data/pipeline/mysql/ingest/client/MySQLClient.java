@@ -50,6 +50,7 @@ import java.util.Objects;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL Connector.
@@ -140,9 +141,21 @@ public final class MySQLClient {
      * @param binlogPosition binlog position
      */
     public synchronized void subscribe(final String binlogFileName, final long binlogPosition) {
+        subscribe(binlogFileName, binlogPosition, (schemaName, tableName) -> true);
+    }
+    
+    /**
+     * Start dump binlog with table filter.
+     * Rows of tables which are not accepted by table filter will be skipped without decoding.
+     *
+     * @param binlogFileName binlog file name
+     * @param binlogPosition binlog position
+     * @param tableFilter table filter, accepts schema name and table name
+     */
+    public synchronized void subscribe(final String binlogFileName, final long binlogPosition, final BiPredicate<String, String> tableFilter) {
         initDumpConnectSession();
         registerSlave();
-        dumpBinlog(binlogFileName, binlogPosition, queryChecksumLength());
+        dumpBinlog(binlogFileName, binlogPosition, queryChecksumLength(), tableFilter);
     }
     
     private void initDumpConnectSession() {
@@ -176,11 +189,11 @@ public final class MySQLClient {
         }
     }
     
-    private void dumpBinlog(final String binlogFileName, final long binlogPosition, final int checksumLength) {
+    private void dumpBinlog(final String binlogFileName, final long binlogPosition, final int checksumLength, final BiPredicate<String, String> tableFilter) {
         responseCallback = null;
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, tableFilter));
         channel.pipeline().addLast(new MySQLBinlogEventHandler());
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
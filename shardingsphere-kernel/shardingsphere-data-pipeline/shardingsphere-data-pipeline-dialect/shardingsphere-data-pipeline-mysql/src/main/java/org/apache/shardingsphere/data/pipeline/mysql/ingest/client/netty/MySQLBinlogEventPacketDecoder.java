@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.AbstractRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
@@ -38,6 +39,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.binlog.row.MySQLBinlog
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 
 import java.util.List;
+import java.util.function.BiPredicate;
 
 /**
  * MySQL binlog event packet decoder.
@@ -47,9 +49,16 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final BinlogContext binlogContext;
     
+    private final BiPredicate<String, String> tableFilter;
+    
     public MySQLBinlogEventPacketDecoder(final int checksumLength) {
+        this(checksumLength, (schemaName, tableName) -> true);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final BiPredicate<String, String> tableFilter) {
         binlogContext = new BinlogContext();
         binlogContext.setChecksumLength(checksumLength);
+        this.tableFilter = tableFilter;
     }
     
     @Override
@@ -71,15 +80,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 break;
             case WRITE_ROWS_EVENTv1:
             case WRITE_ROWS_EVENTv2:
-                out.add(decodeWriteRowsEventV2(binlogEventHeader, payload));
-                break;
             case UPDATE_ROWS_EVENTv1:
             case UPDATE_ROWS_EVENTv2:
-                out.add(decodeUpdateRowsEventV2(binlogEventHeader, payload));
-                break;
             case DELETE_ROWS_EVENTv1:
             case DELETE_ROWS_EVENTv2:
-                out.add(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                out.add(decodeRowsEvent(binlogEventHeader, payload));
                 break;
             default:
                 out.add(createPlaceholderEvent(binlogEventHeader));
@@ -128,18 +133,34 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(tableMapEventPacket.getTableId(), tableMapEventPacket);
     }
     
-    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private AbstractBinlogEvent decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(rowsEventPacket.getTableId());
+        if (!tableFilter.test(tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName())) {
+            payload.skipReserved(payload.getByteBuf().readableBytes());
+            return createPlaceholderEvent(binlogEventHeader);
+        }
+        rowsEventPacket.readRows(tableMapEventPacket, payload);
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType())) {
+            case WRITE_ROWS_EVENTv1:
+            case WRITE_ROWS_EVENTv2:
+                return decodeWriteRowsEventV2(binlogEventHeader, rowsEventPacket);
+            case UPDATE_ROWS_EVENTv1:
+            case UPDATE_ROWS_EVENTv2:
+                return decodeUpdateRowsEventV2(binlogEventHeader, rowsEventPacket);
+            default:
+                return decodeDeleteRowsEventV2(binlogEventHeader, rowsEventPacket);
+        }
+    }
+    
+    private DeleteRowsEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         DeleteRowsEvent result = new DeleteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setBeforeRows(rowsEventPacket.getRows());
         return result;
     }
     
-    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+    private UpdateRowsEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         UpdateRowsEvent result = new UpdateRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setBeforeRows(rowsEventPacket.getRows());
@@ -147,9 +168,7 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         return result;
     }
     
-    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket rowsEventPacket = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        rowsEventPacket.readRows(binlogContext.getTableMapEvent(rowsEventPacket.getTableId()), payload);
+    private WriteRowsEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLBinlogRowsEventPacket rowsEventPacket) {
         WriteRowsEvent result = new WriteRowsEvent();
         initRowsEvent(result, binlogEventHeader, rowsEventPacket.getTableId());
         result.setAfterRows(rowsEventPacket.getRows());
@@ -22,9 +22,11 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.AbstractPipelineSQLBuilder;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * MySQL pipeline SQL builder.
@@ -69,6 +71,26 @@ public final class MySQLPipelineSQLBuilder extends AbstractPipelineSQLBuilder {
         return Optional.of(String.format("SELECT BIT_XOR(CAST(CRC32(%s) AS UNSIGNED)) AS checksum FROM %s", quote(column), quote(tableName)));
     }
     
+    @Override
+    public Optional<String> buildChunkedCRC32SQL(final String tableName, final Collection<String> columnNames, final String uniqueKey, final boolean hasLowerBound, final boolean hasUpperBound) {
+        String quotedUniqueKey = quote(uniqueKey).toString();
+        String columns = columnNames.stream().map(each -> quote(each).toString()).collect(Collectors.joining(","));
+        String lengthPrefixedColumns = columnNames.stream().map(each -> String.format("IFNULL(CHAR_LENGTH(%s),-1),':',IFNULL(%s,'')", quote(each), quote(each))).collect(Collectors.joining(","));
+        return Optional.of(String.format("SELECT COUNT(*) AS record_count, MAX(%s) AS max_unique_key_value, BIT_XOR(CAST(CRC32(CONCAT(%s)) AS UNSIGNED)) AS checksum"
+                + " FROM (SELECT %s FROM %s%s ORDER BY %s LIMIT ?) t", quotedUniqueKey, lengthPrefixedColumns, columns, quote(tableName), buildUniqueKeyRangeCondition(quotedUniqueKey, hasLowerBound, hasUpperBound),
+                quotedUniqueKey));
+    }
+    
+    private String buildUniqueKeyRangeCondition(final String quotedUniqueKey, final boolean hasLowerBound, final boolean hasUpperBound) {
+        if (hasLowerBound && hasUpperBound) {
+            return String.format(" WHERE %s>? AND %s<=?", quotedUniqueKey, quotedUniqueKey);
+        }
+        if (hasLowerBound) {
+            return String.format(" WHERE %s>?", quotedUniqueKey);
+        }
+        return hasUpperBound ? String.format(" WHERE %s<=?", quotedUniqueKey) : "";
+    }
+    
     @Override
     public String getType() {
         return "MySQL";
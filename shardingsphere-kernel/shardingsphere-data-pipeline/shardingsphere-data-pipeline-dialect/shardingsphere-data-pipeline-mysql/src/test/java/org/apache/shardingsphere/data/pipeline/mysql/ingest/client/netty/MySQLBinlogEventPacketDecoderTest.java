@@ -22,6 +22,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.data.pipeline.core.util.ReflectionUtil;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.BinlogContext;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.DeleteRowsEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.PlaceholderEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.UpdateRowsEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.binlog.event.WriteRowsEvent;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
@@ -43,6 +44,8 @@ import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -144,4 +147,18 @@ public final class MySQLBinlogEventPacketDecoderTest {
         assertThat(decodedEvents.size(), is(1));
         assertThat(decodedEvents.get(0), instanceOf(DeleteRowsEvent.class));
     }
+    
+    @Test
+    public void assertDecodeRowEventOfFilteredTable() throws NoSuchFieldException, IllegalAccessException {
+        MySQLBinlogEventPacketDecoder filteredDecoder = new MySQLBinlogEventPacketDecoder(4, (schemaName, tableName) -> !"t_ignored".equals(tableName));
+        ReflectionUtil.getFieldValue(filteredDecoder, "binlogContext", BinlogContext.class).getTableMap().put(0L, tableMapEventPacket);
+        when(byteBuf.readUnsignedByte()).thenReturn((short) 0, (short) 0, (short) MySQLBinlogEventType.WRITE_ROWS_EVENTv2.getValue(), (short) 0);
+        when(byteBuf.readUnsignedShortLE()).thenReturn(2);
+        when(tableMapEventPacket.getTableName()).thenReturn("t_ignored");
+        List<Object> decodedEvents = new LinkedList<>();
+        filteredDecoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+        assertThat(decodedEvents.size(), is(1));
+        assertThat(decodedEvents.get(0), instanceOf(PlaceholderEvent.class));
+        verify(tableMapEventPacket, never()).getColumnDefs();
+    }
 }
@@ -23,6 +23,7 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.Set;
@@ -54,6 +55,31 @@ public final class MySQLPipelineSQLBuilderTest {
         assertThat(actual.get(), is("SELECT BIT_XOR(CAST(CRC32(`id`) AS UNSIGNED)) AS checksum FROM `t2`"));
     }
     
+    @Test
+    public void assertBuildChunkedCRC32SQLWithLowerBound() {
+        Optional<String> actual = sqlBuilder.buildChunkedCRC32SQL("t2", Arrays.asList("id", "c1"), "id", true, false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(*) AS record_count, MAX(`id`) AS max_unique_key_value,"
+                + " BIT_XOR(CAST(CRC32(CONCAT(IFNULL(CHAR_LENGTH(`id`),-1),':',IFNULL(`id`,''),IFNULL(CHAR_LENGTH(`c1`),-1),':',IFNULL(`c1`,''))) AS UNSIGNED))"
+                + " AS checksum FROM (SELECT `id`,`c1` FROM `t2` WHERE `id`>? ORDER BY `id` LIMIT ?) t"));
+    }
+    
+    @Test
+    public void assertBuildChunkedCRC32SQLWithLowerAndUpperBounds() {
+        Optional<String> actual = sqlBuilder.buildChunkedCRC32SQL("t2", Collections.singletonList("id"), "id", true, true);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(*) AS record_count, MAX(`id`) AS max_unique_key_value, BIT_XOR(CAST(CRC32(CONCAT(IFNULL(CHAR_LENGTH(`id`),-1),':',IFNULL(`id`,''))) AS UNSIGNED))"
+                + " AS checksum FROM (SELECT `id` FROM `t2` WHERE `id`>? AND `id`<=? ORDER BY `id` LIMIT ?) t"));
+    }
+    
+    @Test
+    public void assertBuildChunkedCRC32SQLWithoutBound() {
+        Optional<String> actual = sqlBuilder.buildChunkedCRC32SQL("t2", Collections.singletonList("id"), "id", false, false);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is("SELECT COUNT(*) AS record_count, MAX(`id`) AS max_unique_key_value, BIT_XOR(CAST(CRC32(CONCAT(IFNULL(CHAR_LENGTH(`id`),-1),':',IFNULL(`id`,''))) AS UNSIGNED))"
+                + " AS checksum FROM (SELECT `id` FROM `t2` ORDER BY `id` LIMIT ?) t"));
+    }
+    
     private DataRecord mockDataRecord(final String tableName) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 4);
         result.setTableName(tableName);
@@ -17,21 +17,50 @@
 
 package org.apache.shardingsphere.data.pipeline.postgresql.importer;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.importer.AbstractImporter;
 import org.apache.shardingsphere.data.pipeline.postgresql.sqlbuilder.PostgreSQLPipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
  * PostgreSQL importer.
+ *
+ * <p>Insert data records are streamed by COPY FROM STDIN with CSV format. COPY could not resolve conflicts,
+ * so it is rolled back to savepoint on failure and batch INSERT ... ON CONFLICT will be executed instead.</p>
+ *
+ * <p>Timestamp and time values are written with the offset of JVM default time zone, the same as PostgreSQL JDBC driver binds them,
+ * so the result does not depend on time zone of the COPY session. openGauss importer still uses batch insert only.</p>
  */
+@Slf4j
 public final class PostgreSQLImporter extends AbstractImporter {
     
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    private static final DateTimeFormatter TIMESTAMP_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSSSSSSSSxxx");
+    
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm:ss.SSSxxx");
+    
+    private final PostgreSQLPipelineSQLBuilder copySQLBuilder = new PostgreSQLPipelineSQLBuilder();
+    
     public PostgreSQLImporter(final ImporterConfiguration importerConfig, final PipelineDataSourceManager dataSourceManager, final PipelineChannel channel) {
         super(importerConfig, dataSourceManager, channel);
     }
@@ -40,4 +69,86 @@ public final class PostgreSQLImporter extends AbstractImporter {
     protected PipelineSQLBuilder createSQLBuilder(final Map<String, Set<String>> shardingColumnsMap) {
         return new PostgreSQLPipelineSQLBuilder(shardingColumnsMap);
     }
+    
+    @Override
+    protected boolean bulkInsert(final Connection connection, final List<DataRecord> dataRecords) throws SQLException {
+        if (!connection.isWrapperFor(PGConnection.class)) {
+            return false;
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            copyIn(connection.unwrap(PGConnection.class), dataRecords);
+        } catch (final SQLException ex) {
+            log.warn("COPY into {} failed, fall back to batch insert, reason: {}", dataRecords.get(0).getTableName(), ex.getMessage());
+            connection.rollback(savepoint);
+            return false;
+        }
+        connection.releaseSavepoint(savepoint);
+        return true;
+    }
+    
+    private void copyIn(final PGConnection connection, final List<DataRecord> dataRecords) throws SQLException {
+        CopyIn copyIn = connection.getCopyAPI().copyIn(copySQLBuilder.buildCopySQL(dataRecords.get(0)));
+        try {
+            StringBuilder row = new StringBuilder();
+            for (DataRecord each : dataRecords) {
+                row.setLength(0);
+                appendCSVRow(row, each);
+                byte[] bytes = row.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            }
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+    
+    private void appendCSVRow(final StringBuilder row, final DataRecord dataRecord) {
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (i > 0) {
+                row.append(',');
+            }
+            Object value = dataRecord.getColumn(i).getValue();
+            if (null != value) {
+                appendCSVValue(row, toCSVText(value));
+            }
+        }
+        row.append('\n');
+    }
+    
+    private String toCSVText(final Object value) {
+        if (value instanceof byte[]) {
+            return toByteaHex((byte[]) value);
+        }
+        if (value instanceof Timestamp) {
+            return ((Timestamp) value).toLocalDateTime().atZone(ZoneId.systemDefault()).format(TIMESTAMP_FORMATTER);
+        }
+        if (value instanceof Time) {
+            return Instant.ofEpochMilli(((Time) value).getTime()).atZone(ZoneId.systemDefault()).format(TIME_FORMATTER);
+        }
+        return value.toString();
+    }
+    
+    // Unquoted empty value is NULL in CSV format, so every non null value is quoted.
+    private void appendCSVValue(final StringBuilder row, final String value) {
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char each = value.charAt(i);
+            if ('"' == each) {
+                row.append('"');
+            }
+            row.append(each);
+        }
+        row.append('"');
+    }
+    
+    private String toByteaHex(final byte[] value) {
+        StringBuilder result = new StringBuilder(2 + value.length * 2).append("\\x");
+        for (byte each : value) {
+            result.append(HEX_DIGITS[(each >> 4) & 0xF]).append(HEX_DIGITS[each & 0xF]);
+        }
+        return result.toString();
+    }
 }
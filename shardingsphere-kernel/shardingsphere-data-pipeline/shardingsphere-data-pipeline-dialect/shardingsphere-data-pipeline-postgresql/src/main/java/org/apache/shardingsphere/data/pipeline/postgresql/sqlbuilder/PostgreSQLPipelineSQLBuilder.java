@@ -70,6 +70,21 @@ public final class PostgreSQLPipelineSQLBuilder extends AbstractPipelineSQLBuild
         return result.toString();
     }
     
+    /**
+     * Build COPY FROM STDIN SQL with CSV format.
+     *
+     * @param dataRecord data record
+     * @return COPY SQL
+     */
+    public String buildCopySQL(final DataRecord dataRecord) {
+        StringBuilder columnsLiteral = new StringBuilder();
+        for (Column each : dataRecord.getColumns()) {
+            columnsLiteral.append(quote(each.getName())).append(",");
+        }
+        columnsLiteral.setLength(columnsLiteral.length() - 1);
+        return String.format("COPY %s(%s) FROM STDIN WITH (FORMAT csv)", quote(dataRecord.getTableName()), columnsLiteral);
+    }
+    
     @Override
     public String getType() {
         return "PostgreSQL";
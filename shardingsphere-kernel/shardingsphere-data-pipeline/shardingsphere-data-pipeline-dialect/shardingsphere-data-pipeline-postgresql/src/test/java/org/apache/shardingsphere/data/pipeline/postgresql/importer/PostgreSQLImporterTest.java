@@ -18,16 +18,35 @@
 package org.apache.shardingsphere.data.pipeline.postgresql.importer;
 
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.ImporterConfiguration;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.postgresql.sqlbuilder.PostgreSQLPipelineSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.spi.sqlbuilder.PipelineSQLBuilder;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Collections;
 
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @RunWith(MockitoJUnitRunner.class)
 public final class PostgreSQLImporterTest {
@@ -38,4 +57,72 @@ public final class PostgreSQLImporterTest {
         PipelineSQLBuilder actual = new PostgreSQLImporter(importerConfig, null, null).createSQLBuilder(Collections.emptyMap());
         assertTrue(actual instanceof PostgreSQLPipelineSQLBuilder);
     }
+    
+    @Test
+    public void assertBulkInsertByCopy() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Savepoint savepoint = mock(Savepoint.class);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+        CopyManager copyManager = mockCopyManager(connection);
+        CopyIn copyIn = mock(CopyIn.class);
+        when(copyManager.copyIn("COPY \"t_order\"(\"order_id\",\"status\",\"remark\") FROM STDIN WITH (FORMAT csv)")).thenReturn(copyIn);
+        assertTrue(new PostgreSQLImporter(mock(ImporterConfiguration.class), null, null).bulkInsert(connection, Collections.singletonList(createDataRecord())));
+        byte[] expectedRow = "\"1\",\"a \"\"b\"\"\",\n".getBytes(StandardCharsets.UTF_8);
+        verify(copyIn).writeToCopy(expectedRow, 0, expectedRow.length);
+        verify(copyIn).endCopy();
+        verify(connection).releaseSavepoint(savepoint);
+    }
+    
+    @Test
+    public void assertBulkInsertByCopyWithTemporalValues() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.setSavepoint()).thenReturn(mock(Savepoint.class));
+        CopyManager copyManager = mockCopyManager(connection);
+        CopyIn copyIn = mock(CopyIn.class);
+        when(copyManager.copyIn("COPY \"t_order\"(\"order_id\",\"create_time\",\"pay_time\") FROM STDIN WITH (FORMAT csv)")).thenReturn(copyIn);
+        DataRecord dataRecord = new DataRecord(new PlaceholderPosition(), 3);
+        dataRecord.setTableName("t_order");
+        dataRecord.addColumn(new Column("order_id", 1, true, true));
+        dataRecord.addColumn(new Column("create_time", Timestamp.valueOf("2022-03-04 05:06:07.123456"), true, false));
+        dataRecord.addColumn(new Column("pay_time", new Time(Time.valueOf("08:09:10").getTime() + 11L), true, false));
+        assertTrue(new PostgreSQLImporter(mock(ImporterConfiguration.class), null, null).bulkInsert(connection, Collections.singletonList(dataRecord)));
+        String timestampOffset = getOffset(LocalDateTime.of(2022, 3, 4, 5, 6, 7));
+        String timeOffset = getOffset(LocalDateTime.of(1970, 1, 1, 8, 9, 10));
+        byte[] expectedRow = String.format("\"1\",\"2022-03-04 05:06:07.123456000%s\",\"08:09:10.011%s\"\n", timestampOffset, timeOffset).getBytes(StandardCharsets.UTF_8);
+        verify(copyIn).writeToCopy(expectedRow, 0, expectedRow.length);
+    }
+    
+    private String getOffset(final LocalDateTime localDateTime) {
+        ZoneOffset offset = ZoneId.systemDefault().getRules().getOffset(localDateTime);
+        return ZoneOffset.UTC.equals(offset) ? "+00:00" : offset.getId();
+    }
+    
+    @Test
+    public void assertBulkInsertFallbackWhenCopyFailed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        Savepoint savepoint = mock(Savepoint.class);
+        when(connection.setSavepoint()).thenReturn(savepoint);
+        CopyManager copyManager = mockCopyManager(connection);
+        when(copyManager.copyIn(anyString())).thenThrow(new SQLException("duplicate key value violates unique constraint", "23505"));
+        assertFalse(new PostgreSQLImporter(mock(ImporterConfiguration.class), null, null).bulkInsert(connection, Collections.singletonList(createDataRecord())));
+        verify(connection).rollback(savepoint);
+    }
+    
+    private CopyManager mockCopyManager(final Connection connection) throws SQLException {
+        PGConnection pgConnection = mock(PGConnection.class);
+        when(connection.isWrapperFor(PGConnection.class)).thenReturn(true);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        CopyManager result = mock(CopyManager.class);
+        when(pgConnection.getCopyAPI()).thenReturn(result);
+        return result;
+    }
+    
+    private DataRecord createDataRecord() {
+        DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", 1, true, true));
+        result.addColumn(new Column("status", "a \"b\"", true, false));
+        result.addColumn(new Column("remark", null, true, false));
+        return result;
+    }
 }
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
 import org.apache.shardingsphere.data.pipeline.api.datasource.config.PipelineDataSourceConfiguration;
+import org.apache.shardingsphere.data.pipeline.spi.ratelimit.JobRateLimitAlgorithm;
 
 import java.util.Map;
 import java.util.Set;
@@ -42,4 +43,6 @@ public final class ImporterConfiguration {
     private final int batchSize;
     
     private final int retryTimes;
+    
+    private JobRateLimitAlgorithm rateLimitAlgorithm;
 }
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.api.ingest.position;
+
+import com.google.common.base.Preconditions;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+
+/**
+ * Use string primary key as position.
+ *
+ * <p>Begin value is exclusive and end value is inclusive, null means the range is unbounded at that side.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class StringPrimaryKeyPosition implements IngestPosition<StringPrimaryKeyPosition> {
+    
+    private static final String PREFIX = "s,";
+    
+    private static final String NULL_VALUE = "~";
+    
+    private static final Comparator<String> BEGIN_VALUE_COMPARATOR = Comparator.nullsFirst(Comparator.naturalOrder());
+    
+    private final String beginValue;
+    
+    private final String endValue;
+    
+    /**
+     * Judge whether string data is string primary key position.
+     *
+     * @param data string data
+     * @return is string primary key position or not
+     */
+    public static boolean isStringPrimaryKeyPosition(final String data) {
+        return data.startsWith(PREFIX);
+    }
+    
+    /**
+     * Init by string data.
+     *
+     * @param data string data
+     * @return string primary key position
+     */
+    public static StringPrimaryKeyPosition init(final String data) {
+        Preconditions.checkArgument(isStringPrimaryKeyPosition(data), "Unknown string primary key position: " + data);
+        String[] array = data.substring(PREFIX.length()).split(",", -1);
+        Preconditions.checkArgument(array.length == 2, "Unknown string primary key position: " + data);
+        return new StringPrimaryKeyPosition(decode(array[0]), decode(array[1]));
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static String decode(final String value) {
+        return NULL_VALUE.equals(value) ? null : URLDecoder.decode(value, StandardCharsets.UTF_8.name());
+    }
+    
+    @SneakyThrows(UnsupportedEncodingException.class)
+    private static String encode(final String value) {
+        return null == value ? NULL_VALUE : URLEncoder.encode(value, StandardCharsets.UTF_8.name());
+    }
+    
+    @Override
+    public int compareTo(final StringPrimaryKeyPosition position) {
+        if (null == position) {
+            return 1;
+        }
+        return BEGIN_VALUE_COMPARATOR.compare(beginValue, position.beginValue);
+    }
+    
+    @Override
+    public String toString() {
+        return PREFIX + encode(beginValue) + "," + encode(endValue);
+    }
+}
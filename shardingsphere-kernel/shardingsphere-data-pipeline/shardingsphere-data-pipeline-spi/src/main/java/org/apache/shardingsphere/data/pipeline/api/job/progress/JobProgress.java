@@ -49,6 +49,10 @@ public final class JobProgress {
     
     private Map<String, IncrementalTaskProgress> incrementalTaskProgressMap;
     
+    private Double inputRateLimit;
+    
+    private Double outputRateLimit;
+    
     /**
      * Get incremental position.
      *
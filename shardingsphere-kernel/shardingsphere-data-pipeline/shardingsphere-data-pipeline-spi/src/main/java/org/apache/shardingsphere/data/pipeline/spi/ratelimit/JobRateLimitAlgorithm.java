@@ -21,6 +21,8 @@ import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithm;
 import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmPostProcessor;
 
+import java.util.Optional;
+
 /**
  * Job rate limit algorithm, SPI.
  */
@@ -33,4 +35,22 @@ public interface JobRateLimitAlgorithm extends ShardingSphereAlgorithm, Sharding
      * @param data it's delta that means how much changed if type is INSERT, DELETE, UPDATE, SELECT; it's null if type is SYSTEM_LOAD, CPU_USAGE
      */
     void intercept(JobOperationType type, Number data);
+    
+    /**
+     * Feedback latency of finished operation.
+     *
+     * @param type job operation type
+     * @param latencyMillis latency milliseconds of operation
+     */
+    default void feedback(final JobOperationType type, final long latencyMillis) {
+    }
+    
+    /**
+     * Get current rate, permits per second.
+     *
+     * @return current rate, empty if it's not limited by rate
+     */
+    default Optional<Double> getCurrentRate() {
+        return Optional.empty();
+    }
 }
@@ -112,6 +112,16 @@ public interface PipelineSQLBuilder extends StatelessTypedSPI {
      */
     String buildSplitByPrimaryKeyRangeSQL(String tableName, String primaryKey);
     
+    /**
+     * Build split by string primary key range SQL.
+     *
+     * @param tableName table name
+     * @param primaryKey primary key
+     * @param firstQuery whether it is the first split query, which has no lower bound
+     * @return split SQL
+     */
+    String buildSplitByStringPrimaryKeyRangeSQL(String tableName, String primaryKey, boolean firstQuery);
+    
     /**
      * Build CRC32 SQL.
      *
@@ -122,4 +132,20 @@ public interface PipelineSQLBuilder extends StatelessTypedSPI {
     default Optional<String> buildCRC32SQL(final String tableName, final String column) {
         return Optional.empty();
     }
+    
+    /**
+     * Build chunked CRC32 SQL.
+     * It queries record count, max unique key value and checksum of records in the next chunk ordered by unique key.
+     * Placeholders are lower bound (exclusive) of unique key if it has lower bound, upper bound (inclusive) of unique key if it has upper bound, and chunk size.
+     *
+     * @param tableName table name
+     * @param columnNames column names
+     * @param uniqueKey unique key
+     * @param hasLowerBound whether unique key has lower bound
+     * @param hasUpperBound whether unique key has upper bound
+     * @return chunked CRC32 SQL
+     */
+    default Optional<String> buildChunkedCRC32SQL(final String tableName, final Collection<String> columnNames, final String uniqueKey, final boolean hasLowerBound, final boolean hasUpperBound) {
+        return Optional.empty();
+    }
 }
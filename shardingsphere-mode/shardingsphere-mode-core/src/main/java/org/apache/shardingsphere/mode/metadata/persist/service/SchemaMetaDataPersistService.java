@@ -17,12 +17,8 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.service;
 
-import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
-import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
-import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
-import org.apache.shardingsphere.infra.yaml.schema.swapper.TableMetaDataYamlSwapper;
 import org.apache.shardingsphere.mode.metadata.persist.node.DatabaseMetaDataNode;
 import org.apache.shardingsphere.mode.persist.PersistRepository;
 
@@ -30,15 +26,25 @@ import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
 
 /**
  * Schema meta data registry service.
  */
-@RequiredArgsConstructor
 public final class SchemaMetaDataPersistService {
     
+    public static final String TABLE_META_DATA_COMPRESSED_KEY = "tableMetaDataCompressed";
+    
     private final PersistRepository repository;
     
+    private final boolean tableMetaDataCompressed;
+    
+    public SchemaMetaDataPersistService(final PersistRepository repository) {
+        this.repository = repository;
+        Properties props = repository.getProps();
+        tableMetaDataCompressed = null != props && Boolean.parseBoolean(props.getProperty(TABLE_META_DATA_COMPRESSED_KEY));
+    }
+    
     /**
      * Persist schema.
      *
@@ -67,7 +73,7 @@ public final class SchemaMetaDataPersistService {
      */
     public void persist(final String databaseName, final String schemaName, final TableMetaData tableMetaData) {
         repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, tableMetaData.getName().toLowerCase()),
-                YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(tableMetaData)));
+                TableMetaDataCodec.encode(tableMetaData, tableMetaDataCompressed));
     }
     
     /**
@@ -98,8 +104,7 @@ public final class SchemaMetaDataPersistService {
     }
     
     private void persistTables(final String databaseName, final String schemaName, final Map<String, TableMetaData> tables) {
-        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key),
-                YamlEngine.marshal(new TableMetaDataYamlSwapper().swapToYamlConfiguration(value))));
+        tables.forEach((key, value) -> repository.persist(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, key), TableMetaDataCodec.encode(value, tableMetaDataCompressed)));
     }
     
     /**
@@ -130,16 +135,12 @@ public final class SchemaMetaDataPersistService {
      * @return Loaded schema
      */
     public Optional<ShardingSphereSchema> load(final String databaseName, final String schemaName) {
-        Collection<String> tables = repository.getChildrenKeys(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
+        Map<String, String> tables = repository.getChildrenValues(DatabaseMetaDataNode.getMetaDataTablesPath(databaseName, schemaName));
         if (tables.isEmpty()) {
             return Optional.empty();
         }
         ShardingSphereSchema schema = new ShardingSphereSchema();
-        tables.forEach(each -> {
-            String content = repository.get(DatabaseMetaDataNode.getTableMetaDataPath(databaseName, schemaName, each));
-            TableMetaData tableMetaData = new TableMetaDataYamlSwapper().swapToObject(YamlEngine.unmarshal(content, YamlTableMetaData.class));
-            schema.getTables().put(each, tableMetaData);
-        });
+        tables.entrySet().parallelStream().forEach(entry -> schema.getTables().put(entry.getKey(), TableMetaDataCodec.decode(entry.getValue())));
         return Optional.of(schema);
     }
     
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.yaml.engine.YamlEngine;
+import org.apache.shardingsphere.infra.yaml.schema.pojo.YamlTableMetaData;
+import org.apache.shardingsphere.infra.yaml.schema.swapper.TableMetaDataYamlSwapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Table meta data codec for persisted content.
+ *
+ * <p>Table meta data is encoded as YAML, or as Base64 of gzip compressed YAML with prefix if compressed. Both of them could be decoded.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TableMetaDataCodec {
+    
+    private static final String COMPRESSED_PREFIX = "gzip:";
+    
+    private static final TableMetaDataYamlSwapper SWAPPER = new TableMetaDataYamlSwapper();
+    
+    /**
+     * Encode table meta data.
+     *
+     * @param tableMetaData table meta data
+     * @param compressed whether to compress content
+     * @return encoded content
+     */
+    public static String encode(final TableMetaData tableMetaData, final boolean compressed) {
+        String result = YamlEngine.marshal(SWAPPER.swapToYamlConfiguration(tableMetaData));
+        return compressed ? COMPRESSED_PREFIX + Base64.getEncoder().encodeToString(compress(result)) : result;
+    }
+    
+    /**
+     * Decode table meta data.
+     *
+     * @param content encoded content
+     * @return table meta data
+     */
+    public static TableMetaData decode(final String content) {
+        String yamlContent = content.startsWith(COMPRESSED_PREFIX) ? decompress(Base64.getDecoder().decode(content.substring(COMPRESSED_PREFIX.length()))) : content;
+        return SWAPPER.swapToObject(YamlEngine.unmarshal(yamlContent, YamlTableMetaData.class));
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static byte[] compress(final String content) {
+        ByteArrayOutputStream result = new ByteArrayOutputStream();
+        try (GZIPOutputStream outputStream = new GZIPOutputStream(result)) {
+            outputStream.write(content.getBytes(StandardCharsets.UTF_8));
+        }
+        return result.toByteArray();
+    }
+    
+    @SneakyThrows(IOException.class)
+    private static String decompress(final byte[] content) {
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+            ByteArrayOutputStream result = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            int length;
+            while (-1 != (length = inputStream.read(buffer))) {
+                result.write(buffer, 0, length);
+            }
+            return new String(result.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.mode.persist;
 
 import org.apache.shardingsphere.spi.type.typed.StatefulTypedSPI;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Persist repository.
@@ -49,6 +51,23 @@ public interface PersistRepository extends StatefulTypedSPI {
      */
     List<String> getChildrenKeys(String key);
     
+    /**
+     * Get names and data of sub-node.
+     *
+     * <p>Repositories could override it to read data of sub-nodes in bulk instead of one by one.</p>
+     *
+     * @param key key of data
+     * @return sub-node names and data
+     */
+    default Map<String, String> getChildrenValues(final String key) {
+        List<String> childrenKeys = getChildrenKeys(key);
+        Map<String, String> result = new LinkedHashMap<>(childrenKeys.size(), 1);
+        for (String each : childrenKeys) {
+            result.put(each, get(String.join(PATH_SEPARATOR, key, each)));
+        }
+        return result;
+    }
+    
     /**
      * Persist data.
      *
@@ -17,7 +17,6 @@
 
 package org.apache.shardingsphere.mode.metadata.persist.service;
 
-import com.google.common.collect.Lists;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
@@ -38,6 +37,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.Properties;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.CoreMatchers.hasItems;
@@ -46,6 +46,7 @@ import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -79,8 +80,7 @@ public final class SchemaMetaDataPersistServiceTest {
     @Test
     public void assertLoad() {
         SchemaMetaDataPersistService schemaMetaDataPersistService = new SchemaMetaDataPersistService(repository);
-        when(repository.getChildrenKeys("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Lists.newArrayList("t_order"));
-        when(repository.get("/metadata/foo_db/schemas/foo_schema/tables/t_order")).thenReturn(readYAML());
+        when(repository.getChildrenValues("/metadata/foo_db/schemas/foo_schema/tables")).thenReturn(Collections.singletonMap("t_order", readYAML()));
         Optional<ShardingSphereSchema> schemaOptional = schemaMetaDataPersistService.load("foo_db", "foo_schema");
         assertTrue(schemaOptional.isPresent());
         Optional<ShardingSphereSchema> empty = schemaMetaDataPersistService.load("test", "test");
@@ -107,6 +107,16 @@ public final class SchemaMetaDataPersistServiceTest {
         verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), anyString());
     }
     
+    @Test
+    public void assertPersistCompressedTableMetaData() {
+        Properties props = new Properties();
+        props.setProperty(SchemaMetaDataPersistService.TABLE_META_DATA_COMPRESSED_KEY, Boolean.TRUE.toString());
+        when(repository.getProps()).thenReturn(props);
+        TableMetaData tableMetaData = new TableMetaData("FOO_TABLE", Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+        new SchemaMetaDataPersistService(repository).persist("foo_db", "foo_schema", tableMetaData);
+        verify(repository).persist(eq("/metadata/foo_db/schemas/foo_schema/tables/foo_table"), startsWith("gzip:"));
+    }
+    
     @SneakyThrows({IOException.class, URISyntaxException.class})
     private String readYAML() {
         return Files.readAllLines(Paths.get(ClassLoader.getSystemResource("yaml/schema/schema.yaml").toURI())).stream().map(each -> each + System.lineSeparator()).collect(Collectors.joining());
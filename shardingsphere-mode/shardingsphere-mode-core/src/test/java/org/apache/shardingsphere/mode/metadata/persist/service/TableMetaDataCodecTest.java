@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.mode.metadata.persist.service;
+
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.IndexMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.junit.Test;
+
+import java.sql.Types;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class TableMetaDataCodecTest {
+    
+    @Test
+    public void assertEncodeAndDecode() {
+        TableMetaData tableMetaData = createTableMetaData();
+        String actual = TableMetaDataCodec.encode(tableMetaData, false);
+        assertFalse(actual.startsWith("gzip:"));
+        assertThat(TableMetaDataCodec.decode(actual), is(tableMetaData));
+    }
+    
+    @Test
+    public void assertEncodeAndDecodeWithCompressed() {
+        TableMetaData tableMetaData = createTableMetaData();
+        String actual = TableMetaDataCodec.encode(tableMetaData, true);
+        assertTrue(actual.startsWith("gzip:"));
+        assertThat(TableMetaDataCodec.decode(actual), is(tableMetaData));
+    }
+    
+    private TableMetaData createTableMetaData() {
+        return new TableMetaData("t_order", Collections.singletonList(new ColumnMetaData("order_id", Types.INTEGER, true, false, false)),
+                Collections.singletonList(new IndexMetaData("primary")), Collections.emptyList());
+    }
+}
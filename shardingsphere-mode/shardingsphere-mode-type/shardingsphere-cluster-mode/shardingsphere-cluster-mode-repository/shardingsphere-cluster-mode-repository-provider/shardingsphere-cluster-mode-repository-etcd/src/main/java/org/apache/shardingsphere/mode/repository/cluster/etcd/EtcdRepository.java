@@ -43,7 +43,9 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEventListener;
 
 import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -89,6 +91,23 @@ public final class EtcdRepository implements ClusterPersistRepository {
         return keyValues.stream().map(e -> getSubNodeKeyName(prefix, e.getKey().toString(StandardCharsets.UTF_8))).distinct().collect(Collectors.toList());
     }
     
+    @SneakyThrows({InterruptedException.class, ExecutionException.class})
+    @Override
+    public Map<String, String> getChildrenValues(final String key) {
+        String prefix = key + PATH_SEPARATOR;
+        ByteSequence prefixByteSequence = ByteSequence.from(prefix, StandardCharsets.UTF_8);
+        GetOption getOption = GetOption.newBuilder().withPrefix(prefixByteSequence).withSortField(GetOption.SortTarget.KEY).withSortOrder(GetOption.SortOrder.ASCEND).build();
+        List<KeyValue> keyValues = client.getKVClient().get(prefixByteSequence, getOption).get().getKvs();
+        Map<String, String> result = new LinkedHashMap<>(keyValues.size(), 1);
+        for (KeyValue each : keyValues) {
+            String subNodeKey = each.getKey().toString(StandardCharsets.UTF_8).substring(prefix.length());
+            if (!subNodeKey.contains(PATH_SEPARATOR)) {
+                result.put(subNodeKey, each.getValue().toString(StandardCharsets.UTF_8));
+            }
+        }
+        return result;
+    }
+    
     private String getSubNodeKeyName(final String prefix, final String fullPath) {
         String pathWithoutPrefix = fullPath.substring(prefix.length());
         return pathWithoutPrefix.contains(PATH_SEPARATOR) ? pathWithoutPrefix.substring(0, pathWithoutPrefix.indexOf(PATH_SEPARATOR)) : pathWithoutPrefix;
@@ -48,6 +48,7 @@ import java.util.Arrays;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -166,6 +167,24 @@ public final class EtcdRepositoryTest {
         assertThat(iterator.next(), is("key2"));
     }
     
+    @Test
+    public void assertGetChildrenValues() {
+        io.etcd.jetcd.api.KeyValue keyValue1 = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("/key/key1"))
+                .setValue(ByteString.copyFromUtf8("value1")).build();
+        io.etcd.jetcd.api.KeyValue keyValue2 = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("/key/key1/key1-1"))
+                .setValue(ByteString.copyFromUtf8("value2")).build();
+        io.etcd.jetcd.api.KeyValue keyValue3 = io.etcd.jetcd.api.KeyValue.newBuilder()
+                .setKey(ByteString.copyFromUtf8("/key/key2"))
+                .setValue(ByteString.copyFromUtf8("value3")).build();
+        when(getResponse.getKvs()).thenReturn(Arrays.asList(new KeyValue(keyValue1, ByteSequence.EMPTY), new KeyValue(keyValue2, ByteSequence.EMPTY), new KeyValue(keyValue3, ByteSequence.EMPTY)));
+        Map<String, String> actual = repository.getChildrenValues("/key");
+        assertThat(actual.size(), is(2));
+        assertThat(actual.get("key1"), is("value1"));
+        assertThat(actual.get("key2"), is("value3"));
+    }
+    
     @Test
     @SuppressWarnings("unchecked")
     public void assertPersistEphemeral() {
@@ -42,6 +42,8 @@ import org.apache.shardingsphere.mode.repository.cluster.zookeeper.listener.Sess
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperProperties;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.KeeperException.OperationTimeoutException;
 import org.apache.zookeeper.ZooDefs;
 import org.apache.zookeeper.data.ACL;
@@ -50,10 +52,13 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
@@ -147,6 +152,45 @@ public final class CuratorZookeeperRepository implements ClusterPersistRepositor
         }
     }
     
+    @Override
+    public Map<String, String> getChildrenValues(final String key) {
+        List<String> childrenKeys = getChildrenKeys(key);
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>(childrenKeys.size(), 1);
+        try {
+            for (String each : childrenKeys) {
+                futures.put(each, getDataInBackground(String.join(PATH_SEPARATOR, key, each)));
+            }
+            Map<String, String> result = new LinkedHashMap<>(futures.size(), 1);
+            for (Entry<String, CompletableFuture<String>> entry : futures.entrySet()) {
+                String value = entry.getValue().get();
+                if (null != value) {
+                    result.put(entry.getKey(), value);
+                }
+            }
+            return result;
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            CuratorZookeeperExceptionHandler.handleException(ex);
+            return Collections.emptyMap();
+        }
+    }
+    
+    private CompletableFuture<String> getDataInBackground(final String path) throws Exception {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        client.getData().inBackground((framework, event) -> {
+            Code code = Code.get(event.getResultCode());
+            if (Code.OK == code) {
+                result.complete(new String(event.getData(), StandardCharsets.UTF_8));
+            } else if (Code.NONODE == code) {
+                result.complete(null);
+            } else {
+                result.completeExceptionally(KeeperException.create(code, path));
+            }
+        }).forPath(path);
+        return result;
+    }
+    
     @Override
     public void persist(final String key, final String value) {
         try {
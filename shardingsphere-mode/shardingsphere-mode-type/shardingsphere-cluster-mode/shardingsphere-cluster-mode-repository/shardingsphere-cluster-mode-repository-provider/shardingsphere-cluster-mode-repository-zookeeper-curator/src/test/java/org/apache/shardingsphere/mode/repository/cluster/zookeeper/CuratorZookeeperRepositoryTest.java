@@ -23,11 +23,15 @@ import org.apache.curator.RetryPolicy;
 import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory.Builder;
 import org.apache.curator.framework.api.ACLProvider;
+import org.apache.curator.framework.api.BackgroundCallback;
 import org.apache.curator.framework.api.BackgroundVersionable;
 import org.apache.curator.framework.api.CreateBuilder;
+import org.apache.curator.framework.api.CuratorEvent;
 import org.apache.curator.framework.api.DeleteBuilder;
+import org.apache.curator.framework.api.ErrorListenerPathable;
 import org.apache.curator.framework.api.ExistsBuilder;
 import org.apache.curator.framework.api.GetChildrenBuilder;
+import org.apache.curator.framework.api.GetDataBuilder;
 import org.apache.curator.framework.api.ProtectACLCreateModeStatPathAndBytesable;
 import org.apache.curator.framework.api.SetDataBuilder;
 import org.apache.curator.framework.listen.Listenable;
@@ -40,6 +44,7 @@ import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEve
 import org.apache.shardingsphere.mode.repository.cluster.listener.DataChangedEvent.Type;
 import org.apache.shardingsphere.mode.repository.cluster.zookeeper.props.ZookeeperPropertyKey;
 import org.apache.zookeeper.CreateMode;
+import org.apache.zookeeper.KeeperException.Code;
 import org.apache.zookeeper.data.Stat;
 import org.junit.Before;
 import org.junit.Test;
@@ -58,6 +63,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertFalse;
@@ -69,6 +75,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -110,6 +117,12 @@ public final class CuratorZookeeperRepositoryTest {
     @Mock
     private BackgroundVersionable backgroundVersionable;
     
+    @Mock
+    private GetDataBuilder getDataBuilder;
+    
+    @Mock
+    private ErrorListenerPathable<byte[]> errorListenerPathable;
+    
     @Mock
     private Builder builder;
     
@@ -202,6 +215,37 @@ public final class CuratorZookeeperRepositoryTest {
         assertThat(childrenKeys.size(), is(2));
     }
     
+    @Test
+    @SneakyThrows
+    public void assertGetChildrenValues() {
+        when(getChildrenBuilder.forPath("/test/children/values")).thenReturn(Arrays.asList("1", "2"));
+        when(client.getData()).thenReturn(getDataBuilder);
+        AtomicReference<BackgroundCallback> callback = new AtomicReference<>();
+        when(getDataBuilder.inBackground(any(BackgroundCallback.class))).thenAnswer(invocation -> {
+            callback.set(invocation.getArgument(0));
+            return errorListenerPathable;
+        });
+        CuratorEvent existedEvent = mockCuratorEvent(Code.OK);
+        when(existedEvent.getData()).thenReturn("value1".getBytes(StandardCharsets.UTF_8));
+        CuratorEvent deletedEvent = mockCuratorEvent(Code.NONODE);
+        when(errorListenerPathable.forPath("/test/children/values/1")).thenAnswer(invocation -> {
+            callback.get().processResult(client, existedEvent);
+            return null;
+        });
+        when(errorListenerPathable.forPath("/test/children/values/2")).thenAnswer(invocation -> {
+            callback.get().processResult(client, deletedEvent);
+            return null;
+        });
+        Map<String, String> actual = REPOSITORY.getChildrenValues("/test/children/values");
+        assertThat(actual, is(Collections.singletonMap("1", "value1")));
+    }
+    
+    private CuratorEvent mockCuratorEvent(final Code code) {
+        CuratorEvent result = mock(CuratorEvent.class);
+        when(result.getResultCode()).thenReturn(code.intValue());
+        return result;
+    }
+    
     @Test
     @SneakyThrows
     public void assertWatchUpdatedChangedType() {
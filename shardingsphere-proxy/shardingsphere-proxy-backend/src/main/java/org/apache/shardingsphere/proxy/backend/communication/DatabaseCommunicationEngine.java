@@ -53,6 +53,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectState
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -155,7 +156,8 @@ public abstract class DatabaseCommunicationEngine<T> {
     protected MergedResult mergeQuery(final SQLStatementContext<?> sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         MergeEngine mergeEngine = new MergeEngine(DefaultSchema.LOGIC_NAME,
                 ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData(metaData.getName()).getResource().getDatabaseType(),
-                metaData.getDefaultSchema(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps(), metaData.getRuleMetaData().getRules());
+                metaData.getDefaultSchema(), ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps(), metaData.getRuleMetaData().getRules(),
+                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getExecutorEngine());
         return mergeEngine.merge(queryResults, sqlStatementContext);
     }
     
@@ -215,6 +217,20 @@ public abstract class DatabaseCommunicationEngine<T> {
         return new QueryResponseRow(cells);
     }
     
+    protected Collection<SQLException> closeMergedResult() {
+        Collection<SQLException> result = new LinkedList<>();
+        if (null == mergedResult) {
+            return result;
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            result.add(ex);
+        }
+        mergedResult = null;
+        return result;
+    }
+    
     protected boolean isBinary() {
         return !JDBCDriverType.STATEMENT.equals(driverType);
     }
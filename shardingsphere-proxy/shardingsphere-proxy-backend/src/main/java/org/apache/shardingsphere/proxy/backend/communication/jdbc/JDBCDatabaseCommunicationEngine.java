@@ -186,7 +186,7 @@ public final class JDBCDatabaseCommunicationEngine extends DatabaseCommunication
      * @throws SQLException SQL exception
      */
     public void close() throws SQLException {
-        Collection<SQLException> result = new LinkedList<>();
+        Collection<SQLException> result = new LinkedList<>(closeMergedResult());
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         if (result.isEmpty()) {
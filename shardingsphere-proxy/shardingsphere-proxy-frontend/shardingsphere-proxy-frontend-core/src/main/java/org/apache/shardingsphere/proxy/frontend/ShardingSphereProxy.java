@@ -33,9 +33,11 @@ import io.netty.handler.logging.LoggingHandler;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
 import org.apache.shardingsphere.proxy.backend.communication.vertx.VertxBackendDataSource;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
 import org.apache.shardingsphere.proxy.frontend.netty.ServerHandlerInitializer;
 import org.apache.shardingsphere.proxy.frontend.protocol.FrontDatabaseProtocolTypeFactory;
 
@@ -67,6 +69,7 @@ public final class ShardingSphereProxy {
     }
     
     private ChannelFuture startInternal(final int port) throws InterruptedException {
+        initConnectionThreadExecutorGroup();
         createEventLoopGroup();
         ServerBootstrap bootstrap = new ServerBootstrap();
         initServerBootstrap(bootstrap);
@@ -78,6 +81,11 @@ public final class ShardingSphereProxy {
         future.channel().closeFuture().sync();
     }
     
+    private void initConnectionThreadExecutorGroup() {
+        String connectionThreadType = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_CONNECTION_THREAD_TYPE);
+        ConnectionThreadExecutorGroup.getInstance().setExecutorServiceType(ExecutorServiceType.valueFrom(connectionThreadType));
+    }
+    
     private void createEventLoopGroup() {
         bossGroup = Epoll.isAvailable() ? new EpollEventLoopGroup(1) : new NioEventLoopGroup(1);
         workerGroup = getWorkerGroup();
@@ -19,7 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
-import lombok.RequiredArgsConstructor;
+import io.netty.util.AttributeKey;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
@@ -42,15 +42,23 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 import java.util.stream.Collectors;
 
 /**
  * Command executor task.
+ * 
+ * <p>
+ * Query data is written until channel is not writable, then task is suspended with channel auto read disabled instead of blocking its thread.
+ * Suspended task is resumed on the same executor service after channel becomes writable, and only releases resources and enables auto read after query data completed.
+ * </p>
  */
-@RequiredArgsConstructor
 @Slf4j
 public final class CommandExecutorTask implements Runnable {
     
+    private static final AttributeKey<CommandExecutorTask> SUSPENDED_TASK_ATTRIBUTE_KEY = AttributeKey.valueOf(CommandExecutorTask.class.getName());
+    
     private final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine;
     
     private final ConnectionSession connectionSession;
@@ -59,6 +67,42 @@ public final class CommandExecutorTask implements Runnable {
     
     private final Object message;
     
+    private final ExecutorService executorService;
+    
+    private QueryCommandExecutor suspendedQueryCommandExecutor;
+    
+    private int suspendedHeaderPackagesCount;
+    
+    private String suspendedSQLStatementDatabase;
+    
+    private boolean autoReadDisabled;
+    
+    public CommandExecutorTask(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession, final ChannelHandlerContext context, final Object message) {
+        this(databaseProtocolFrontendEngine, connectionSession, context, message, null);
+    }
+    
+    public CommandExecutorTask(final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession,
+                               final ChannelHandlerContext context, final Object message, final ExecutorService executorService) {
+        this.databaseProtocolFrontendEngine = databaseProtocolFrontendEngine;
+        this.connectionSession = connectionSession;
+        this.context = context;
+        this.message = message;
+        this.executorService = executorService;
+    }
+    
+    /**
+     * Resume command executor task suspended by channel writability.
+     * 
+     * @param context channel handler context
+     */
+    public static void resumeSuspended(final ChannelHandlerContext context) {
+        CommandExecutorTask suspendedTask = context.channel().attr(SUSPENDED_TASK_ATTRIBUTE_KEY).getAndSet(null);
+        if (null != suspendedTask) {
+            Executor executor = null == suspendedTask.executorService ? context.executor() : suspendedTask.executorService;
+            executor.execute(suspendedTask::resume);
+        }
+    }
+    
     /**
      * To make sure SkyWalking will be available at the next release of ShardingSphere,
      * a new plugin should be provided to SkyWalking project if this API changed.
@@ -80,21 +124,76 @@ public final class CommandExecutorTask implements Runnable {
             // CHECKSTYLE:ON
             processException(ex);
         } finally {
-            // TODO optimize SQLStatementDatabaseHolder
-            SQLStatementDatabaseHolder.remove();
-            Collection<SQLException> exceptions = Collections.emptyList();
-            try {
-                connectionSession.getBackendConnection().closeExecutionResources();
-            } catch (final BackendConnectionException ex) {
-                exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
-            }
-            if (isNeedFlush) {
-                context.flush();
-            }
-            processClosedExceptions(exceptions);
+            completeOrSuspend(isNeedFlush, sqlShowEnabled);
+        }
+    }
+    
+    private void resume() {
+        boolean sqlShowEnabled = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getProps().getValue(ConfigurationPropertyKey.SQL_SHOW);
+        QueryCommandExecutor queryCommandExecutor = suspendedQueryCommandExecutor;
+        suspendedQueryCommandExecutor = null;
+        if (null != suspendedSQLStatementDatabase) {
+            SQLStatementDatabaseHolder.set(suspendedSQLStatementDatabase);
+        }
+        try {
             if (sqlShowEnabled) {
-                clearLogMDC();
+                fillLogMDC();
             }
+            writeQueryData(queryCommandExecutor, suspendedHeaderPackagesCount);
+        } catch (final SQLException ex) {
+            databaseProtocolFrontendEngine.handleException(connectionSession);
+            processException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            processException(ex);
+        } finally {
+            if (null == suspendedQueryCommandExecutor) {
+                closeQueryCommandExecutor(queryCommandExecutor);
+            }
+            completeOrSuspend(true, sqlShowEnabled);
+        }
+    }
+    
+    private void completeOrSuspend(final boolean isNeedFlush, final boolean sqlShowEnabled) {
+        if (null == suspendedQueryCommandExecutor) {
+            complete(isNeedFlush);
+        } else {
+            suspend();
+        }
+        if (sqlShowEnabled) {
+            clearLogMDC();
+        }
+    }
+    
+    private void complete(final boolean isNeedFlush) {
+        // TODO optimize SQLStatementDatabaseHolder
+        SQLStatementDatabaseHolder.remove();
+        QueryDataStreamWriter.release(context);
+        Collection<SQLException> exceptions = Collections.emptyList();
+        try {
+            connectionSession.getBackendConnection().closeExecutionResources();
+        } catch (final BackendConnectionException ex) {
+            exceptions = ex.getExceptions().stream().filter(SQLException.class::isInstance).map(SQLException.class::cast).collect(Collectors.toList());
+        }
+        if (isNeedFlush) {
+            context.flush();
+        }
+        processClosedExceptions(exceptions);
+        if (autoReadDisabled) {
+            context.channel().config().setAutoRead(true);
+        }
+    }
+    
+    private void suspend() {
+        suspendedSQLStatementDatabase = SQLStatementDatabaseHolder.get();
+        SQLStatementDatabaseHolder.remove();
+        autoReadDisabled = true;
+        context.channel().config().setAutoRead(false);
+        context.flush();
+        context.channel().attr(SUSPENDED_TASK_ATTRIBUTE_KEY).set(this);
+        if (context.channel().isWritable() || !context.channel().isActive()) {
+            resumeSuspended(context);
         }
     }
     
@@ -110,14 +209,31 @@ public final class CommandExecutorTask implements Runnable {
             }
             responsePackets.forEach(context::write);
             if (commandExecutor instanceof QueryCommandExecutor) {
-                commandExecuteEngine.writeQueryData(context, connectionSession.getBackendConnection(), (QueryCommandExecutor) commandExecutor, responsePackets.size());
+                writeQueryData((QueryCommandExecutor) commandExecutor, responsePackets.size());
             }
             return true;
         } catch (final SQLException ex) {
             databaseProtocolFrontendEngine.handleException(connectionSession);
             throw ex;
         } finally {
-            commandExecutor.close();
+            if (null == suspendedQueryCommandExecutor) {
+                commandExecutor.close();
+            }
+        }
+    }
+    
+    private void writeQueryData(final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+        if (!databaseProtocolFrontendEngine.getCommandExecuteEngine().writeQueryData(context, connectionSession.getBackendConnection(), queryCommandExecutor, headerPackagesCount)) {
+            suspendedQueryCommandExecutor = queryCommandExecutor;
+            suspendedHeaderPackagesCount = headerPackagesCount;
+        }
+    }
+    
+    private void closeQueryCommandExecutor(final QueryCommandExecutor queryCommandExecutor) {
+        try {
+            queryCommandExecutor.close();
+        } catch (final SQLException ex) {
+            processException(ex);
         }
     }
     
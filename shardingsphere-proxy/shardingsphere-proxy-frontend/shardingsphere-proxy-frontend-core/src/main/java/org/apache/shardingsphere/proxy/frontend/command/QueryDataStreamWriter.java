@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.Attribute;
+import io.netty.util.AttributeKey;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Query data stream writer.
+ * 
+ * <p>
+ * Packets are encoded to pooled byte buffers on the command thread instead of channel event loop, so channel writability reflects real pending bytes.
+ * Writer flushes when pending rows or pending bytes reach threshold, packets below threshold are flushed by a task scheduled on channel event loop within flush interval.
+ * </p>
+ * 
+ * <p>
+ * Writer never waits for channel writability. Command execute engine stops writing once channel is not writable,
+ * and continues with the same writer bound to channel after command executor task is resumed by channel writability change.
+ * </p>
+ */
+public final class QueryDataStreamWriter {
+    
+    private static final AttributeKey<QueryDataStreamWriter> WRITER_ATTRIBUTE_KEY = AttributeKey.valueOf(QueryDataStreamWriter.class.getName());
+    
+    private static final long FLUSH_INTERVAL_MILLIS = 10L;
+    
+    private final ChannelHandlerContext context;
+    
+    @SuppressWarnings("rawtypes")
+    private final DatabasePacketCodecEngine codecEngine;
+    
+    private final int flushRowThreshold;
+    
+    private final int flushBytesThreshold;
+    
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    
+    private int pendingRowCount;
+    
+    private int pendingBytes;
+    
+    @Getter
+    private long writtenPacketCount;
+    
+    public QueryDataStreamWriter(final ChannelHandlerContext context, final DatabasePacketCodecEngine<?> codecEngine, final int flushRowThreshold) {
+        this.context = context;
+        this.codecEngine = codecEngine;
+        this.flushRowThreshold = flushRowThreshold;
+        flushBytesThreshold = context.channel().config().getWriteBufferLowWaterMark();
+    }
+    
+    /**
+     * Get query data stream writer bound to channel, or bind a new one if absent.
+     * 
+     * @param context channel handler context
+     * @param codecEngine codec engine
+     * @param flushRowThreshold flush row threshold
+     * @return query data stream writer
+     */
+    public static QueryDataStreamWriter getInstance(final ChannelHandlerContext context, final DatabasePacketCodecEngine<?> codecEngine, final int flushRowThreshold) {
+        Attribute<QueryDataStreamWriter> attribute = context.channel().attr(WRITER_ATTRIBUTE_KEY);
+        QueryDataStreamWriter result = attribute.get();
+        if (null == result) {
+            result = new QueryDataStreamWriter(context, codecEngine, flushRowThreshold);
+            attribute.set(result);
+        }
+        return result;
+    }
+    
+    /**
+     * Unbind query data stream writer from channel.
+     * 
+     * @param context channel handler context
+     */
+    public static void release(final ChannelHandlerContext context) {
+        context.channel().attr(WRITER_ATTRIBUTE_KEY).set(null);
+    }
+    
+    /**
+     * Judge whether packets can be written without exceeding channel high water mark.
+     * 
+     * <p>Inactive channel is treated as writable, so query data is still drained and command completes.</p>
+     * 
+     * @return can be written or not
+     */
+    public boolean isWritable() {
+        Channel channel = context.channel();
+        return channel.isWritable() || !channel.isActive();
+    }
+    
+    /**
+     * Write packet.
+     * 
+     * @param packet packet to be written
+     */
+    @SuppressWarnings("unchecked")
+    public void write(final DatabasePacket<?> packet) {
+        ByteBuf byteBuf = context.alloc().ioBuffer();
+        try {
+            codecEngine.encode(context, packet, byteBuf);
+        } catch (final RuntimeException ex) {
+            byteBuf.release();
+            throw ex;
+        }
+        writtenPacketCount++;
+        pendingRowCount++;
+        pendingBytes += byteBuf.readableBytes();
+        context.write(byteBuf, context.voidPromise());
+        if (pendingRowCount >= flushRowThreshold || pendingBytes >= flushBytesThreshold) {
+            flush();
+        } else {
+            scheduleFlush();
+        }
+    }
+    
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            context.executor().schedule(this::runScheduledFlush, FLUSH_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    private void runScheduledFlush() {
+        flushScheduled.set(false);
+        context.flush();
+    }
+    
+    /**
+     * Flush written packets.
+     */
+    public void flush() {
+        context.flush();
+        pendingRowCount = 0;
+        pendingBytes = 0;
+    }
+}
@@ -19,11 +19,16 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +38,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensure XA transaction framework processed by current thread id.
+ * The thread of connection could be a virtual thread to avoid occupying an OS thread for each connection.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -42,6 +48,9 @@ public final class ConnectionThreadExecutorGroup {
     
     private final Map<Integer, ExecutorService> executorServices = new ConcurrentHashMap<>();
     
+    @Setter
+    private volatile ExecutorServiceType executorServiceType = ExecutorServiceType.PLATFORM;
+    
     /**
      * Get connection thread executor group.
      *
@@ -61,7 +70,12 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), getThreadFactory(String.format("Connection-%d-ThreadExecutor", connectionId)));
+    }
+    
+    private ThreadFactory getThreadFactory(final String threadName) {
+        ThreadFactory platformThreadFactory = runnable -> new Thread(runnable, threadName);
+        return ExecutorServiceType.VIRTUAL == executorServiceType ? ExecutorThreadFactoryBuilder.buildVirtual(threadName).orElse(platformThreadFactory) : platformThreadFactory;
     }
     
     /**
@@ -75,17 +89,22 @@ public final class ConnectionThreadExecutorGroup {
     }
     
     /**
-     * Unregister connection and await termination.
+     * Unregister connection without waiting, the close task will be executed after all submitted tasks of connection finished.
      *
      * @param connectionId connection id
+     * @param closeTask close task
      */
-    public void unregisterAndAwaitTermination(final int connectionId) {
+    public void unregister(final int connectionId, final Runnable closeTask) {
         ExecutorService executorService = executorServices.remove(connectionId);
-        executorService.shutdown();
+        if (null == executorService) {
+            closeTask.run();
+            return;
+        }
         try {
-            executorService.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
-        } catch (final InterruptedException ignored) {
-            Thread.currentThread().interrupt();
+            executorService.execute(closeTask);
+        } catch (final RejectedExecutionException ignored) {
+            closeTask.run();
         }
+        executorService.shutdown();
     }
 }
@@ -36,9 +36,8 @@ public final class JDBCOKProxyState implements OKProxyState {
     
     @Override
     public void execute(final ChannelHandlerContext context, final Object message, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine, final ConnectionSession connectionSession) {
-        CommandExecutorTask commandExecutorTask = new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message);
         ExecutorService executorService = determineSuitableExecutorService(context, databaseProtocolFrontendEngine, connectionSession);
-        executorService.execute(commandExecutorTask);
+        executorService.execute(new CommandExecutorTask(databaseProtocolFrontendEngine, connectionSession, context, message, executorService));
     }
     
     private ExecutorService determineSuitableExecutorService(final ChannelHandlerContext context, final DatabaseProtocolFrontendEngine databaseProtocolFrontendEngine,
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.frontend.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.DefaultAttributeMap;
 import org.apache.shardingsphere.db.protocol.CommonConstants;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacketType;
@@ -35,6 +36,7 @@ import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
@@ -42,8 +44,12 @@ import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 import java.util.Collections;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -114,6 +120,7 @@ public final class CommandExecutorTaskTest {
         when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(queryCommandExecutor);
         when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
         when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
+        when(engine.getCommandExecuteEngine().writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1)).thenReturn(true);
         CommandExecutorTask actual = new CommandExecutorTask(engine, connectionSession, handlerContext, message);
         actual.run();
         verify(handlerContext).write(databasePacket);
@@ -123,6 +130,32 @@ public final class CommandExecutorTaskTest {
         verify(backendConnection).closeExecutionResources();
     }
     
+    @Test
+    public void assertRunSuspendedUntilChannelWritable() throws SQLException, BackendConnectionException {
+        DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        when(handlerContext.channel().attr(argThat(each -> !CommonConstants.CHARSET_ATTRIBUTE_KEY.equals(each)))).thenAnswer(invocation -> attributeMap.attr(invocation.getArgument(0)));
+        when(handlerContext.channel().isActive()).thenReturn(true);
+        when(queryCommandExecutor.execute()).thenReturn(Collections.singletonList(databasePacket));
+        when(engine.getCommandExecuteEngine().getCommandPacket(payload, commandPacketType, connectionSession)).thenReturn(commandPacket);
+        when(engine.getCommandExecuteEngine().getCommandExecutor(commandPacketType, commandPacket, connectionSession)).thenReturn(queryCommandExecutor);
+        when(engine.getCommandExecuteEngine().getCommandPacketType(payload)).thenReturn(commandPacketType);
+        when(engine.getCodecEngine().createPacketPayload(message, StandardCharsets.UTF_8)).thenReturn(payload);
+        when(engine.getCommandExecuteEngine().writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1)).thenReturn(false, true);
+        ExecutorService executorService = mock(ExecutorService.class);
+        new CommandExecutorTask(engine, connectionSession, handlerContext, message, executorService).run();
+        verify(handlerContext.channel().config()).setAutoRead(false);
+        verify(queryCommandExecutor, never()).close();
+        verify(backendConnection, never()).closeExecutionResources();
+        CommandExecutorTask.resumeSuspended(handlerContext);
+        ArgumentCaptor<Runnable> resumeTaskCaptor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executorService).execute(resumeTaskCaptor.capture());
+        resumeTaskCaptor.getValue().run();
+        verify(engine.getCommandExecuteEngine(), times(2)).writeQueryData(handlerContext, backendConnection, queryCommandExecutor, 1);
+        verify(queryCommandExecutor).close();
+        verify(backendConnection).closeExecutionResources();
+        verify(handlerContext.channel().config()).setAutoRead(true);
+    }
+    
     @Test
     public void assertRunByCommandExecutor() throws SQLException, BackendConnectionException {
         when(engine.getFrontendContext()).thenReturn(frontendContext);
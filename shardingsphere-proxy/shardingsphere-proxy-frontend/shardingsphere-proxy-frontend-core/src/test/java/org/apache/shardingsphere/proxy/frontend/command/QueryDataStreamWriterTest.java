@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.DefaultAttributeMap;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public final class QueryDataStreamWriterTest {
+    
+    @Mock
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private Channel channel;
+    
+    @Mock
+    private DatabasePacketCodecEngine<DatabasePacket<?>> codecEngine;
+    
+    @Before
+    public void setUp() {
+        when(context.channel()).thenReturn(channel);
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        ChannelConfig channelConfig = mock(ChannelConfig.class);
+        when(channelConfig.getWriteBufferLowWaterMark()).thenReturn(Integer.MAX_VALUE);
+        when(channel.config()).thenReturn(channelConfig);
+    }
+    
+    @Test
+    public void assertWrite() {
+        QueryDataStreamWriter writer = new QueryDataStreamWriter(context, codecEngine, 1);
+        writer.write(mock(DatabasePacket.class));
+        writer.write(mock(DatabasePacket.class));
+        verify(codecEngine, times(2)).encode(any(ChannelHandlerContext.class), any(DatabasePacket.class), isA(ByteBuf.class));
+        verify(context, times(2)).write(isA(ByteBuf.class), any());
+        verify(context, times(2)).flush();
+        assertThat(writer.getWrittenPacketCount(), is(2L));
+    }
+    
+    @Test
+    public void assertIsWritable() {
+        when(channel.isWritable()).thenReturn(false, true);
+        when(channel.isActive()).thenReturn(true);
+        QueryDataStreamWriter writer = new QueryDataStreamWriter(context, codecEngine, 1);
+        assertFalse(writer.isWritable());
+        assertTrue(writer.isWritable());
+    }
+    
+    @Test
+    public void assertIsWritableWithInactiveChannel() {
+        when(channel.isWritable()).thenReturn(false);
+        when(channel.isActive()).thenReturn(false);
+        assertTrue(new QueryDataStreamWriter(context, codecEngine, 1).isWritable());
+    }
+    
+    @Test
+    public void assertGetInstanceBoundToChannel() {
+        DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        when(channel.attr(any())).thenAnswer(invocation -> attributeMap.attr(invocation.getArgument(0)));
+        QueryDataStreamWriter writer = QueryDataStreamWriter.getInstance(context, codecEngine, 1);
+        assertThat(QueryDataStreamWriter.getInstance(context, codecEngine, 1), is(writer));
+        QueryDataStreamWriter.release(context);
+        assertThat(QueryDataStreamWriter.getInstance(context, codecEngine, 1), not(writer));
+    }
+    
+    @Test
+    public void assertWriteBelowThresholdWithScheduledFlush() {
+        EventExecutor executor = mock(EventExecutor.class);
+        when(context.executor()).thenReturn(executor);
+        QueryDataStreamWriter writer = new QueryDataStreamWriter(context, codecEngine, 10);
+        writer.write(mock(DatabasePacket.class));
+        writer.write(mock(DatabasePacket.class));
+        ArgumentCaptor<Runnable> flushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(flushTask.capture(), eq(10L), eq(TimeUnit.MILLISECONDS));
+        verify(context, never()).flush();
+        flushTask.getValue().run();
+        verify(context).flush();
+    }
+}
@@ -17,10 +17,20 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceType;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
 
 public final class ConnectionThreadExecutorGroupTest {
     
@@ -29,14 +39,46 @@ public final class ConnectionThreadExecutorGroupTest {
         int connectionId = 1;
         ConnectionThreadExecutorGroup.getInstance().register(connectionId);
         assertNotNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionId, mock(Runnable.class));
     }
     
     @Test
     public void assertUnregister() {
         int connectionId = 2;
         ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionId, mock(Runnable.class));
+        assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+    }
+    
+    @Test
+    public void assertUnregisterWithCloseTask() throws InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+        CountDownLatch latch = new CountDownLatch(1);
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionId, latch::countDown);
         assertNull(ConnectionThreadExecutorGroup.getInstance().get(connectionId));
+        assertTrue(latch.await(1L, TimeUnit.SECONDS));
+    }
+    
+    @Test
+    public void assertUnregisterNotRegisteredConnectionWithCloseTask() {
+        CountDownLatch latch = new CountDownLatch(1);
+        ConnectionThreadExecutorGroup.getInstance().unregister(4, latch::countDown);
+        assertThat(latch.getCount(), is(0L));
+    }
+    
+    @Test
+    public void assertRegisterWithVirtualThread() throws InterruptedException, ExecutionException {
+        int connectionId = 5;
+        ConnectionThreadExecutorGroup.getInstance().setExecutorServiceType(ExecutorServiceType.VIRTUAL);
+        try {
+            ConnectionThreadExecutorGroup.getInstance().register(connectionId);
+            Thread firstThread = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(Thread::currentThread).get();
+            Thread secondThread = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(Thread::currentThread).get();
+            assertThat(secondThread, sameInstance(firstThread));
+            ConnectionThreadExecutorGroup.getInstance().unregister(connectionId, mock(Runnable.class));
+        } finally {
+            ConnectionThreadExecutorGroup.getInstance().setExecutorServiceType(ExecutorServiceType.PLATFORM);
+        }
     }
 }
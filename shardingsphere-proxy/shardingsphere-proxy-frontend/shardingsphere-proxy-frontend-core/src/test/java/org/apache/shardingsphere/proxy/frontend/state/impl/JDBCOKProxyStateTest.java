@@ -79,7 +79,7 @@ public final class JDBCOKProxyStateTest {
         ExecutorService executorService = registerMockExecutorService(1);
         new JDBCOKProxyState().execute(context, null, frontendEngine, connectionSession);
         verify(executorService).execute(any(CommandExecutorTask.class));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
+        ConnectionThreadExecutorGroup.getInstance().unregister(1, mock(Runnable.class));
     }
     
     @Test
@@ -89,7 +89,7 @@ public final class JDBCOKProxyStateTest {
         ExecutorService executorService = registerMockExecutorService(1);
         new JDBCOKProxyState().execute(context, null, frontendEngine, connectionSession);
         verify(executorService).execute(any(CommandExecutorTask.class));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
+        ConnectionThreadExecutorGroup.getInstance().unregister(1, mock(Runnable.class));
     }
     
     @Test
@@ -110,7 +110,7 @@ public final class JDBCOKProxyStateTest {
         ExecutorService executorService = registerMockExecutorService(1);
         new JDBCOKProxyState().execute(context, null, frontendEngine, connectionSession);
         verify(executorService).execute(any(CommandExecutorTask.class));
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
+        ConnectionThreadExecutorGroup.getInstance().unregister(1, mock(Runnable.class));
     }
     
     @Test(expected = IllegalArgumentException.class)
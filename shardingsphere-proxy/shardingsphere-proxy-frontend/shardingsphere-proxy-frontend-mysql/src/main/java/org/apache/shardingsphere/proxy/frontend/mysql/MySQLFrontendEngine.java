@@ -43,10 +43,10 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     
     private final AuthenticationEngine authenticationEngine = new MySQLAuthenticationEngine();
     
-    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine();
-    
     private final DatabasePacketCodecEngine<MySQLPacket> codecEngine = new MySQLPacketCodecEngine();
     
+    private final CommandExecuteEngine commandExecuteEngine = new MySQLCommandExecuteEngine(codecEngine);
+    
     public MySQLFrontendEngine() {
         MySQLServerInfo.setDefualtMysqlVersion(ProxyContext.getInstance().getContextManager().getMetaDataContexts()
                 .getProps().<String>getValue(ConfigurationPropertyKey.PROXY_MYSQL_DEFAULT_VERSION));
@@ -39,10 +39,10 @@ public final class OpenGaussFrontendEngine implements DatabaseProtocolFrontendEn
     
     private final OpenGaussAuthenticationEngine authenticationEngine = new OpenGaussAuthenticationEngine();
     
-    private final OpenGaussCommandExecuteEngine commandExecuteEngine = new OpenGaussCommandExecuteEngine();
-    
     private final OpenGaussPacketCodecEngine codecEngine = new OpenGaussPacketCodecEngine();
     
+    private final OpenGaussCommandExecuteEngine commandExecuteEngine = new OpenGaussCommandExecuteEngine(codecEngine);
+    
     @Override
     public FrontendContext getFrontendContext() {
         return postgreSQLFrontendEngine.getFrontendContext();
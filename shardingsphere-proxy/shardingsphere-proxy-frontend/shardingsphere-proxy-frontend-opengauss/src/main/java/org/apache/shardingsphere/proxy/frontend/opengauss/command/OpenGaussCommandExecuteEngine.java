@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.proxy.frontend.opengauss.command;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.opengauss.packet.command.OpenGaussCommandPacketType;
 import org.apache.shardingsphere.db.protocol.packet.CommandPacket;
@@ -44,7 +45,11 @@ import java.util.Optional;
  */
 public final class OpenGaussCommandExecuteEngine implements CommandExecuteEngine {
     
-    private final PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+    private final PostgreSQLCommandExecuteEngine postgreSQLCommandExecuteEngine;
+    
+    public OpenGaussCommandExecuteEngine(final DatabasePacketCodecEngine<?> codecEngine) {
+        postgreSQLCommandExecuteEngine = new PostgreSQLCommandExecuteEngine(codecEngine);
+    }
     
     @Override
     public CommandPacketType getCommandPacketType(final PacketPayload payload) {
@@ -73,8 +78,8 @@ public final class OpenGaussCommandExecuteEngine implements CommandExecuteEngine
     }
     
     @Override
-    public void writeQueryData(final ChannelHandlerContext context,
-                               final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
-        postgreSQLCommandExecuteEngine.writeQueryData(context, backendConnection, queryCommandExecutor, headerPackagesCount);
+    public boolean writeQueryData(final ChannelHandlerContext context,
+                                  final BackendConnection backendConnection, final QueryCommandExecutor queryCommandExecutor, final int headerPackagesCount) throws SQLException {
+        return postgreSQLCommandExecuteEngine.writeQueryData(context, backendConnection, queryCommandExecutor, headerPackagesCount);
     }
 }
@@ -42,10 +42,10 @@ public final class PostgreSQLFrontendEngine implements DatabaseProtocolFrontendE
     
     private final AuthenticationEngine authenticationEngine = new PostgreSQLAuthenticationEngine();
     
-    private final CommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
-    
     private final DatabasePacketCodecEngine<PostgreSQLPacket> codecEngine = new PostgreSQLPacketCodecEngine();
     
+    private final CommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine(codecEngine);
+    
     @Override
     public void setDatabaseVersion(final String schemaName, final String databaseVersion) {
         PostgreSQLServerInfo.setServerVersion(databaseVersion);
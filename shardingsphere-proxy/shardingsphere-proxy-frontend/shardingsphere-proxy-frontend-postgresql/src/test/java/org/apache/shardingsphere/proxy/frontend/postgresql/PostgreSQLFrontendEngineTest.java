@@ -42,7 +42,7 @@ public final class PostgreSQLFrontendEngineTest {
         PostgreSQLConnectionContextRegistry.getInstance().get(connectionId);
         PostgreSQLFrontendEngine frontendEngine = new PostgreSQLFrontendEngine();
         ConnectionThreadExecutorGroup.getInstance().register(connectionId);
-        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+        ConnectionThreadExecutorGroup.getInstance().unregister(connectionId, mock(Runnable.class));
         frontendEngine.release(connectionSession);
         assertTrue(getConnectionContexts().isEmpty());
     }
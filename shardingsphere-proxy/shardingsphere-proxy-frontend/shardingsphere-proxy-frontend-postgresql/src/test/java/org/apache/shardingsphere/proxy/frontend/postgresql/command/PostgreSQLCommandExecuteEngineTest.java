@@ -17,13 +17,20 @@
 
 package org.apache.shardingsphere.proxy.frontend.postgresql.command;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelConfig;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.DefaultAttributeMap;
+import io.netty.util.concurrent.EventExecutor;
+import org.apache.shardingsphere.db.protocol.CommonConstants;
+import org.apache.shardingsphere.db.protocol.postgresql.codec.PostgreSQLPacketCodecEngine;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.PostgreSQLPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
 import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.JDBCBackendConnection;
-import org.apache.shardingsphere.proxy.backend.communication.jdbc.connection.ResourceLock;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.backend.session.transaction.TransactionStatus;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
@@ -32,15 +39,24 @@ import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -69,7 +85,7 @@ public final class PostgreSQLCommandExecuteEngineTest {
     public void assertSimpleQueryWithUpdateResponseWriteQueryData() throws SQLException {
         PostgreSQLComQueryExecutor comQueryExecutor = mock(PostgreSQLComQueryExecutor.class);
         when(comQueryExecutor.getResponseType()).thenReturn(ResponseType.UPDATE);
-        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine(new PostgreSQLPacketCodecEngine());
         JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
         when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
         commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, comQueryExecutor, 0);
@@ -78,7 +94,7 @@ public final class PostgreSQLCommandExecuteEngineTest {
     
     @Test
     public void assertWriteQueryDataWithUpdate() throws SQLException {
-        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine(new PostgreSQLPacketCodecEngine());
         when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.UPDATE);
         JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class, RETURNS_DEEP_STUBS);
         when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
@@ -88,7 +104,7 @@ public final class PostgreSQLCommandExecuteEngineTest {
     
     @Test
     public void assertWriteQueryDataWithInactiveChannel() throws SQLException {
-        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
+        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine(new PostgreSQLPacketCodecEngine());
         when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
         when(channel.isActive()).thenReturn(false);
         commandExecuteEngine.writeQueryData(channelHandlerContext, mock(JDBCBackendConnection.class), queryCommandExecutor, 0);
@@ -102,18 +118,34 @@ public final class PostgreSQLCommandExecuteEngineTest {
         when(channel.isActive()).thenReturn(true);
         when(queryCommandExecutor.next()).thenReturn(true, false);
         when(channel.isWritable()).thenReturn(false, true);
-        ResourceLock resourceLock = mock(ResourceLock.class);
+        mockChannel();
         JDBCBackendConnection backendConnection = mock(JDBCBackendConnection.class);
-        when(backendConnection.getResourceLock()).thenReturn(resourceLock);
         when(backendConnection.getConnectionSession()).thenReturn(connectionSession);
         PostgreSQLPacket packet = mock(PostgreSQLPacket.class);
         when(queryCommandExecutor.getQueryRowPacket()).thenReturn(packet);
-        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine();
-        commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0);
-        verify(resourceLock).doAwait();
-        verify(channelHandlerContext).write(packet);
-        verify(channelHandlerContext).write(isA(PostgreSQLCommandCompletePacket.class));
-        verify(channelHandlerContext).flush();
-        verify(channelHandlerContext).write(isA(PostgreSQLReadyForQueryPacket.class));
+        PostgreSQLCommandExecuteEngine commandExecuteEngine = new PostgreSQLCommandExecuteEngine(new PostgreSQLPacketCodecEngine());
+        assertFalse(commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0));
+        verify(channelHandlerContext, never()).write(isA(PostgreSQLCommandCompletePacket.class));
+        assertTrue(commandExecuteEngine.writeQueryData(channelHandlerContext, backendConnection, queryCommandExecutor, 0));
+        verify(packet).write(any());
+        verify(channelHandlerContext).write(isA(ByteBuf.class), any());
+        ArgumentCaptor<Object> writtenPackets = ArgumentCaptor.forClass(Object.class);
+        verify(channelHandlerContext, times(2)).write(writtenPackets.capture());
+        PostgreSQLPacketPayload payload = mock(PostgreSQLPacketPayload.class);
+        ((PostgreSQLCommandCompletePacket) writtenPackets.getAllValues().get(0)).write(payload);
+        verify(payload).writeStringNul("SELECT 1");
+        assertThat(writtenPackets.getAllValues().get(1), instanceOf(PostgreSQLReadyForQueryPacket.class));
+        verify(channelHandlerContext, atLeastOnce()).flush();
+    }
+    
+    private void mockChannel() {
+        ChannelConfig channelConfig = mock(ChannelConfig.class);
+        when(channelConfig.getWriteBufferLowWaterMark()).thenReturn(32 * 1024);
+        when(channel.config()).thenReturn(channelConfig);
+        DefaultAttributeMap attributeMap = new DefaultAttributeMap();
+        attributeMap.attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).set(StandardCharsets.UTF_8);
+        when(channel.attr(any())).thenAnswer(invocation -> attributeMap.attr(invocation.getArgument(0)));
+        when(channelHandlerContext.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(channelHandlerContext.executor()).thenReturn(mock(EventExecutor.class));
     }
 }
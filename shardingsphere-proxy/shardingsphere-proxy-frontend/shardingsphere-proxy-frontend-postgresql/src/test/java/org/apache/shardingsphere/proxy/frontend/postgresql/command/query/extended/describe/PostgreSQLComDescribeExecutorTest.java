@@ -237,6 +237,7 @@ public final class PostgreSQLComDescribeExecutorTest {
         when(connection.prepareStatement(sql).getMetaData()).thenReturn(resultSetMetaData);
         when(backendConnection.getConnections(nullable(String.class), anyInt(), any(ConnectionMode.class))).thenReturn(Collections.singletonList(connection));
         when(connectionSession.getBackendConnection()).thenReturn(backendConnection);
+        when(mockContextManager.getMetaDataContexts().getMetaData(DATABASE_NAME).getRuleMetaData().getRules()).thenReturn(Collections.emptyList());
     }
     
     private ResultSetMetaData prepareResultSetMetaData() throws SQLException {
@@ -83,12 +83,15 @@ public interface CommandExecuteEngine {
     
     /**
      * Write query data.
+     * 
+     * <p>Writing stops once channel is not writable, and is invoked again with the same query command executor after channel becomes writable.</p>
      *
      * @param context channel handler context
      * @param backendConnection backend connection
      * @param queryCommandExecutor query command executor
      * @param headerPackagesCount count of header packages
+     * @return all query data written or not
      * @throws SQLException SQL exception
      */
-    void writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
+    boolean writeQueryData(ChannelHandlerContext context, BackendConnection backendConnection, QueryCommandExecutor queryCommandExecutor, int headerPackagesCount) throws SQLException;
 }
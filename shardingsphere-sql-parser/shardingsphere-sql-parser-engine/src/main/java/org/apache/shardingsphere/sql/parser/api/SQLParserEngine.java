@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.sql.parser.api;
 
 import com.google.common.cache.LoadingCache;
+import org.antlr.v4.runtime.CharStream;
 import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
 import org.apache.shardingsphere.sql.parser.core.database.cache.ParseTreeCacheBuilder;
 import org.apache.shardingsphere.sql.parser.core.database.parser.SQLParserExecutor;
@@ -46,4 +47,15 @@ public final class SQLParserEngine {
     public ParseASTNode parse(final String sql, final boolean useCache) {
         return useCache ? parseTreeCache.getUnchecked(sql) : sqlParserExecutor.parse(sql);
     }
+    
+    /**
+     * Parse SQL from char stream without cache.
+     *
+     * @param sql SQL to be parsed
+     * @param charStream char stream of SQL
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final String sql, final CharStream charStream) {
+        return sqlParserExecutor.parse(sql, charStream);
+    }
 }
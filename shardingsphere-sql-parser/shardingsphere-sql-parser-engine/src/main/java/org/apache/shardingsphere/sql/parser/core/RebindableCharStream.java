@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core;
+
+import com.google.common.base.Preconditions;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.misc.Interval;
+
+/**
+ * Char stream which can be rebound to another SQL of the same length.
+ * 
+ * <p>Tokens read their text from char stream of the SQL they are lexed from. After rebinding, tokens and parse tree built from this char stream read text from the new SQL.</p>
+ */
+public final class RebindableCharStream implements CharStream {
+    
+    private CharStream delegate;
+    
+    public RebindableCharStream(final String sql) {
+        delegate = CharStreams.fromString(sql);
+    }
+    
+    /**
+     * Rebind to SQL.
+     * 
+     * @param sql SQL to be rebound, must have the same length with current one
+     */
+    public void rebind(final String sql) {
+        CharStream charStream = CharStreams.fromString(sql);
+        Preconditions.checkArgument(charStream.size() == delegate.size(), "Can not rebind char stream to SQL `%s` of different length.", sql);
+        delegate = charStream;
+    }
+    
+    @Override
+    public String getText(final Interval interval) {
+        return delegate.getText(interval);
+    }
+    
+    @Override
+    public void consume() {
+        delegate.consume();
+    }
+    
+    // CHECKSTYLE:OFF
+    @Override
+    public int LA(final int i) {
+        return delegate.LA(i);
+    }
+    // CHECKSTYLE:ON
+    
+    @Override
+    public int mark() {
+        return delegate.mark();
+    }
+    
+    @Override
+    public void release(final int marker) {
+        delegate.release(marker);
+    }
+    
+    @Override
+    public int index() {
+        return delegate.index();
+    }
+    
+    @Override
+    public void seek(final int index) {
+        delegate.seek(index);
+    }
+    
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+    
+    @Override
+    public String getSourceName() {
+        return delegate.getSourceName();
+    }
+    
+    @Override
+    public String toString() {
+        return delegate.toString();
+    }
+}
@@ -28,11 +28,17 @@ import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ConsoleErrorListener;
 import org.antlr.v4.runtime.Lexer;
 import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 
+import java.lang.reflect.Constructor;
 import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * SQL parser factory.
@@ -40,33 +46,94 @@ import java.nio.CharBuffer;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class SQLParserFactory {
     
+    private static final Map<Class<?>, Constructor<?>> CONSTRUCTORS = new ConcurrentHashMap<>();
+    
+    private static final ThreadLocal<Map<Class<?>, Recognizer<?, ?>>> RECOGNIZERS = ThreadLocal.withInitial(HashMap::new);
+    
     /**
      * New instance of SQL parser.
      * 
+     * <p>Lexer and parser instances are reused per thread, the returned SQL parser must be used by current thread and only until next invocation.</p>
+     * 
+     * <p>Reuse only pays off on long-lived threads, such as command executor threads or connection threads of proxy, which stay bound to a connection even if they are virtual.
+     * A virtual thread per task, such as kernel executor with VIRTUAL type, creates its own instances and releases them with the thread, the same as without reuse.</p>
+     * 
      * @param sql SQL
      * @param lexerClass lexer class
      * @param parserClass parser class
      * @return SQL parser
      */
     public static SQLParser newInstance(final String sql, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
-        return createSQLParser(createTokenStream(sql, lexerClass), parserClass);
+        return newInstance(getSQLCharStream(sql), lexerClass, parserClass);
+    }
+    
+    /**
+     * New instance of SQL parser from char stream.
+     * 
+     * @param charStream char stream of SQL
+     * @param lexerClass lexer class
+     * @param parserClass parser class
+     * @return SQL parser
+     */
+    public static SQLParser newInstance(final CharStream charStream, final Class<? extends SQLLexer> lexerClass, final Class<? extends SQLParser> parserClass) {
+        return createSQLParser(createTokenStream(charStream, lexerClass), parserClass);
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
     private static SQLParser createSQLParser(final TokenStream tokenStream, final Class<? extends SQLParser> parserClass) {
-        SQLParser result = parserClass.getConstructor(TokenStream.class).newInstance(tokenStream);
-        ((Parser) result).setErrorHandler(new BailErrorStrategy());
-        ((Parser) result).removeErrorListener(ConsoleErrorListener.INSTANCE);
-        return result;
+        Map<Class<?>, Recognizer<?, ?>> recognizers = RECOGNIZERS.get();
+        Parser result = (Parser) recognizers.get(parserClass);
+        if (null == result) {
+            result = (Parser) newRecognizer(parserClass, TokenStream.class, tokenStream);
+            result.setErrorHandler(new BailErrorStrategy());
+            result.removeErrorListener(ConsoleErrorListener.INSTANCE);
+            recognizers.put(parserClass, result);
+        } else {
+            result.setTokenStream(tokenStream);
+            result.getInterpreter().setPredictionMode(PredictionMode.LL);
+        }
+        return (SQLParser) result;
     }
     
-    @SneakyThrows(ReflectiveOperationException.class)
-    private static TokenStream createTokenStream(final String sql, final Class<? extends SQLLexer> lexerClass) {
-        Lexer lexer = (Lexer) lexerClass.getConstructor(CharStream.class).newInstance(getSQLCharStream(sql));
-        lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
+    private static TokenStream createTokenStream(final CharStream charStream, final Class<? extends SQLLexer> lexerClass) {
+        Map<Class<?>, Recognizer<?, ?>> recognizers = RECOGNIZERS.get();
+        Lexer lexer = (Lexer) recognizers.get(lexerClass);
+        if (null == lexer) {
+            lexer = (Lexer) newRecognizer(lexerClass, CharStream.class, charStream);
+            lexer.removeErrorListener(ConsoleErrorListener.INSTANCE);
+            recognizers.put(lexerClass, lexer);
+        } else {
+            lexer.setInputStream(charStream);
+        }
         return new CommonTokenStream(lexer);
     }
     
+    /**
+     * Release input of SQL parser and its lexer.
+     * 
+     * <p>Reused recognizers would otherwise keep last token stream and char stream reachable until next invocation on the same thread.
+     * Tokens of parse tree keep their own char stream, so parse results stay usable after release.</p>
+     * 
+     * @param sqlParser SQL parser created by this factory
+     */
+    public static void releaseInput(final SQLParser sqlParser) {
+        Parser parser = (Parser) sqlParser;
+        TokenStream tokenStream = parser.getTokenStream();
+        if (null != tokenStream && tokenStream.getTokenSource() instanceof Lexer) {
+            ((Lexer) tokenStream.getTokenSource()).setInputStream(null);
+        }
+        parser.setTokenStream(null);
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static Recognizer<?, ?> newRecognizer(final Class<?> recognizerClass, final Class<?> inputClass, final Object input) {
+        Constructor<?> constructor = CONSTRUCTORS.get(recognizerClass);
+        if (null == constructor) {
+            constructor = recognizerClass.getConstructor(inputClass);
+            CONSTRUCTORS.put(recognizerClass, constructor);
+        }
+        return (Recognizer<?, ?>) constructor.newInstance(input);
+    }
+    
     private static CharStream getSQLCharStream(final String sql) {
         CodePointBuffer buffer = CodePointBuffer.withChars(CharBuffer.wrap(sql.toCharArray()));
         return CodePointCharStream.fromBuffer(buffer);
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import lombok.SneakyThrows;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.core.database.parser.DatabaseTypedSQLParserFacadeRegistry;
+import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
+import org.apache.shardingsphere.sql.parser.sql.common.constant.ParameterMarkerType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.predicate.WhereSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Fast path SQL statement parser.
+ * 
+ * <p>Recognize simple single table select statements like {@code SELECT col1, col2 FROM t WHERE col1 = ? AND col2 = ?} without ANTLR,
+ * and build the same segments as the ANTLR visitors of MySQL and PostgreSQL do. SQLs outside of the subset are left to ANTLR.</p>
+ * 
+ * <p>Unquoted identifiers must not be any keyword of the dialect lexer, including non reserved ones which ANTLR may parse as functions, such as {@code LOCALTIME} or {@code CURRENT_USER}.
+ * Keywords are the symbolic names of lexer vocabulary without {@code _} suffix, which is used by symbols and literals. Fast path is disabled if the dialect lexer is absent.</p>
+ */
+public final class FastPathSQLStatementParser {
+    
+    private final Supplier<SelectStatement> selectStatementSupplier;
+    
+    private final char identifierQuoteCharacter;
+    
+    private final Collection<String> keywords;
+    
+    public FastPathSQLStatementParser(final String databaseType) {
+        this(databaseType, loadKeywords(databaseType));
+    }
+    
+    FastPathSQLStatementParser(final String databaseType, final Collection<String> keywords) {
+        this.keywords = keywords;
+        if (keywords.isEmpty()) {
+            selectStatementSupplier = null;
+            identifierQuoteCharacter = 0;
+        } else if ("MySQL".equals(databaseType)) {
+            selectStatementSupplier = MySQLSelectStatement::new;
+            identifierQuoteCharacter = '`';
+        } else if ("PostgreSQL".equals(databaseType)) {
+            selectStatementSupplier = PostgreSQLSelectStatement::new;
+            identifierQuoteCharacter = '"';
+        } else {
+            selectStatementSupplier = null;
+            identifierQuoteCharacter = 0;
+        }
+    }
+    
+    private static Collection<String> loadKeywords(final String databaseType) {
+        if (!"MySQL".equals(databaseType) && !"PostgreSQL".equals(databaseType)) {
+            return Collections.emptySet();
+        }
+        Optional<DatabaseTypedSQLParserFacade> facade = DatabaseTypedSQLParserFacadeRegistry.findFacade(databaseType);
+        return facade.isPresent() ? loadKeywords(facade.get().getLexerClass()) : Collections.emptySet();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private static Collection<String> loadKeywords(final Class<? extends SQLLexer> lexerClass) {
+        Vocabulary vocabulary = (Vocabulary) lexerClass.getField("VOCABULARY").get(null);
+        Collection<String> result = new HashSet<>();
+        for (int i = 1; i <= vocabulary.getMaxTokenType(); i++) {
+            String symbolicName = vocabulary.getSymbolicName(i);
+            if (null != symbolicName && !symbolicName.endsWith("_")) {
+                result.add(symbolicName);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Parse SQL by fast path.
+     * 
+     * @param sql SQL to be parsed
+     * @return SQL statement, empty if SQL is not supported by fast path
+     */
+    public Optional<SQLStatement> parse(final String sql) {
+        return null == selectStatementSupplier ? Optional.empty() : Optional.ofNullable(new SimpleSelectParser(sql).parse());
+    }
+    
+    private final class SimpleSelectParser {
+        
+        private final String sql;
+        
+        private final Collection<ParameterMarkerExpressionSegment> parameterMarkerSegments = new LinkedList<>();
+        
+        private int index;
+        
+        private int tokenStartIndex;
+        
+        private SimpleSelectParser(final String sql) {
+            this.sql = sql;
+        }
+        
+        private SelectStatement parse() {
+            if (!acceptKeyword("SELECT")) {
+                return null;
+            }
+            ProjectionsSegment projections = parseProjections();
+            if (null == projections || !acceptKeyword("FROM")) {
+                return null;
+            }
+            IdentifierValue tableName = parseIdentifier();
+            if (null == tableName) {
+                return null;
+            }
+            TableNameSegment table = new TableNameSegment(tokenStartIndex, index - 1, tableName);
+            WhereSegment where = null;
+            if (acceptKeyword("WHERE")) {
+                where = parseWhere(tokenStartIndex);
+                if (null == where) {
+                    return null;
+                }
+            }
+            skipWhitespaces();
+            if (index != sql.length()) {
+                return null;
+            }
+            SelectStatement result = selectStatementSupplier.get();
+            result.setProjections(projections);
+            result.setFrom(new SimpleTableSegment(table));
+            result.setWhere(where);
+            result.setParameterCount(parameterMarkerSegments.size());
+            result.getParameterMarkerSegments().addAll(parameterMarkerSegments);
+            return result;
+        }
+        
+        private ProjectionsSegment parseProjections() {
+            if (acceptCharacter('*')) {
+                ProjectionsSegment result = new ProjectionsSegment(tokenStartIndex, tokenStartIndex);
+                result.getProjections().add(new ShorthandProjectionSegment(tokenStartIndex, tokenStartIndex));
+                return result;
+            }
+            Collection<ProjectionSegment> projections = new LinkedList<>();
+            int startIndex = -1;
+            ColumnSegment column;
+            do {
+                column = parseColumn();
+                if (null == column) {
+                    return null;
+                }
+                if (projections.isEmpty()) {
+                    startIndex = column.getStartIndex();
+                }
+                projections.add(new ColumnProjectionSegment(column));
+            } while (acceptCharacter(','));
+            ProjectionsSegment result = new ProjectionsSegment(startIndex, column.getStopIndex());
+            result.getProjections().addAll(projections);
+            return result;
+        }
+        
+        private WhereSegment parseWhere(final int whereStartIndex) {
+            ExpressionSegment expr = parseEqualsParameterMarker();
+            if (null == expr) {
+                return null;
+            }
+            while (acceptKeyword("AND")) {
+                String operator = sql.substring(tokenStartIndex, index);
+                ExpressionSegment right = parseEqualsParameterMarker();
+                if (null == right) {
+                    return null;
+                }
+                expr = new BinaryOperationExpression(expr.getStartIndex(), right.getStopIndex(), expr, right, operator, sql.substring(expr.getStartIndex(), right.getStopIndex() + 1));
+            }
+            return new WhereSegment(whereStartIndex, expr.getStopIndex(), expr);
+        }
+        
+        private ExpressionSegment parseEqualsParameterMarker() {
+            ColumnSegment left = parseColumn();
+            if (null == left || !acceptCharacter('=') || !acceptCharacter('?')) {
+                return null;
+            }
+            ParameterMarkerExpressionSegment right = new ParameterMarkerExpressionSegment(tokenStartIndex, tokenStartIndex, parameterMarkerSegments.size(), ParameterMarkerType.QUESTION);
+            parameterMarkerSegments.add(right);
+            return new BinaryOperationExpression(left.getStartIndex(), right.getStopIndex(), left, right, "=", sql.substring(left.getStartIndex(), right.getStopIndex() + 1));
+        }
+        
+        private ColumnSegment parseColumn() {
+            IdentifierValue identifier = parseIdentifier();
+            return null == identifier ? null : new ColumnSegment(tokenStartIndex, index - 1, identifier);
+        }
+        
+        private IdentifierValue parseIdentifier() {
+            skipWhitespaces();
+            int startIndex = index;
+            if (index < sql.length() && identifierQuoteCharacter == sql.charAt(index)) {
+                int endQuoteIndex = sql.indexOf(identifierQuoteCharacter, index + 1);
+                if (endQuoteIndex <= index + 1 || endQuoteIndex + 1 < sql.length() && identifierQuoteCharacter == sql.charAt(endQuoteIndex + 1)) {
+                    return null;
+                }
+                index = endQuoteIndex + 1;
+            } else {
+                if (index >= sql.length() || !isIdentifierStart(sql.charAt(index))) {
+                    return null;
+                }
+                skipIdentifierParts();
+                if (keywords.contains(sql.substring(startIndex, index).toUpperCase())) {
+                    return null;
+                }
+            }
+            tokenStartIndex = startIndex;
+            return new IdentifierValue(sql.substring(startIndex, index));
+        }
+        
+        private boolean acceptKeyword(final String keyword) {
+            skipWhitespaces();
+            int stopIndex = index + keyword.length();
+            if (!sql.regionMatches(true, index, keyword, 0, keyword.length()) || stopIndex < sql.length() && isIdentifierPart(sql.charAt(stopIndex))) {
+                return false;
+            }
+            tokenStartIndex = index;
+            index = stopIndex;
+            return true;
+        }
+        
+        private boolean acceptCharacter(final char character) {
+            skipWhitespaces();
+            if (index >= sql.length() || character != sql.charAt(index)) {
+                return false;
+            }
+            tokenStartIndex = index;
+            index++;
+            return true;
+        }
+        
+        private void skipWhitespaces() {
+            while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+                index++;
+            }
+        }
+        
+        private void skipIdentifierParts() {
+            while (index < sql.length() && isIdentifierPart(sql.charAt(index))) {
+                index++;
+            }
+        }
+        
+        private boolean isIdentifierStart(final char character) {
+            return '_' == character || 'a' <= character && character <= 'z' || 'A' <= character && character <= 'Z';
+        }
+        
+        private boolean isIdentifierPart(final char character) {
+            return isIdentifierStart(character) || '$' == character || '0' <= character && character <= '9';
+        }
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.ServiceLoader;
 
 /**
@@ -50,4 +51,14 @@ public final class DatabaseTypedSQLParserFacadeRegistry {
         Preconditions.checkArgument(FACADES.containsKey(databaseType), "Cannot support database type '%s'", databaseType);
         return FACADES.get(databaseType);
     }
+    
+    /**
+     * Find database type based SQL parser facade.
+     * 
+     * @param databaseType database type
+     * @return database type based SQL parser facade
+     */
+    public static Optional<DatabaseTypedSQLParserFacade> findFacade(final String databaseType) {
+        return Optional.ofNullable(FACADES.get(databaseType));
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * SQL fingerprint.
+ * 
+ * <p>Fingerprint replaces string and numeric literals with {@code ?} and collapses whitespaces in a single pass, so SQLs which only differ in literals share the same fingerprint.</p>
+ * 
+ * <p>Shape is stricter than fingerprint, it masks characters inside literals and keeps positions and lengths of literals,
+ * so SQLs which share the same shape are lexed to the same tokens at the same positions and only differ in literal values.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLFingerprint {
+    
+    private static final char PLACEHOLDER = '?';
+    
+    private static final char SHAPE_MASK = '\0';
+    
+    /**
+     * Normalize SQL to fingerprint.
+     * 
+     * @param sql SQL to be normalized
+     * @return fingerprint of SQL
+     */
+    public static String normalize(final String sql) {
+        return normalize(sql, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * Normalize head of SQL to fingerprint.
+     * 
+     * <p>Normalization stops once fingerprint reaches max length, so the cost is bounded whatever the SQL length is.</p>
+     * 
+     * @param sql SQL to be normalized
+     * @param maxLength max length of fingerprint
+     * @return fingerprint of SQL head
+     */
+    public static String normalize(final String sql, final int maxLength) {
+        StringBuilder result = new StringBuilder(Math.min(sql.length(), maxLength));
+        int length = sql.length();
+        int index = 0;
+        while (index < length && result.length() < maxLength) {
+            char each = sql.charAt(index);
+            if ('\'' == each) {
+                index = skipStringLiteral(sql, index + 1);
+                result.append(PLACEHOLDER);
+            } else if (Character.isDigit(each) && !isIdentifierPart(result)) {
+                index = skipNumericLiteral(sql, index + 1);
+                result.append(PLACEHOLDER);
+            } else if (Character.isWhitespace(each)) {
+                index = skipWhitespaces(sql, index + 1);
+                result.append(' ');
+            } else {
+                result.append(each);
+                index++;
+            }
+        }
+        return result.toString();
+    }
+    
+    /**
+     * Get shape of SQL.
+     * 
+     * <p>Digits of numeric literals and characters inside string literals are masked. Shape is absent for SQL which may be lexed differently with other literals of the same length,
+     * such as SQL with comments, backslashes, doubled quotes or prefixes of string literals, dollar quoted strings or surrogate characters inside literals.</p>
+     * 
+     * @param sql SQL
+     * @return shape of SQL
+     */
+    public static Optional<String> shape(final String sql) {
+        if (-1 != sql.indexOf('\\') || -1 != sql.indexOf(SHAPE_MASK)) {
+            return Optional.empty();
+        }
+        char[] result = sql.toCharArray();
+        int index = 0;
+        while (index < result.length) {
+            char each = result[index];
+            if ('\'' == each) {
+                int stopIndex = findStringLiteralStop(result, index);
+                if (-1 == stopIndex) {
+                    return Optional.empty();
+                }
+                Arrays.fill(result, index + 1, stopIndex, SHAPE_MASK);
+                index = stopIndex + 1;
+            } else if ('"' == each || '`' == each || '[' == each) {
+                int stopIndex = sql.indexOf('[' == each ? ']' : each, index + 1);
+                if (-1 == stopIndex) {
+                    return Optional.empty();
+                }
+                index = stopIndex + 1;
+            } else if (isDigit(each) && !isIdentifierPart(result, index - 1)) {
+                int stopIndex = index + 1;
+                while (stopIndex < result.length && isDigit(result[stopIndex])) {
+                    stopIndex++;
+                }
+                if (!isIdentifierPart(result, stopIndex)) {
+                    Arrays.fill(result, index, stopIndex, SHAPE_MASK);
+                }
+                index = stopIndex;
+            } else if (isUnsupportedShapeCharacter(result, index)) {
+                return Optional.empty();
+            } else {
+                index++;
+            }
+        }
+        return Optional.of(new String(result));
+    }
+    
+    private static int findStringLiteralStop(final char[] sql, final int startIndex) {
+        if (isIdentifierPart(sql, startIndex - 1) || startIndex > 0 && ('\'' == sql[startIndex - 1] || '&' == sql[startIndex - 1])) {
+            return -1;
+        }
+        for (int i = startIndex + 1; i < sql.length; i++) {
+            if ('\'' == sql[i]) {
+                return i + 1 < sql.length && '\'' == sql[i + 1] ? -1 : i;
+            }
+            if (Character.isSurrogate(sql[i])) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+    
+    private static boolean isUnsupportedShapeCharacter(final char[] sql, final int index) {
+        char each = sql[index];
+        if ('$' == each || '#' == each) {
+            return true;
+        }
+        return index + 1 < sql.length && ('-' == each && '-' == sql[index + 1] || '/' == each && '*' == sql[index + 1]);
+    }
+    
+    private static boolean isDigit(final char each) {
+        return each >= '0' && each <= '9';
+    }
+    
+    private static boolean isIdentifierPart(final char[] sql, final int index) {
+        if (index < 0 || index >= sql.length) {
+            return false;
+        }
+        char each = sql[index];
+        return '_' == each || '$' == each || '@' == each || Character.isLetterOrDigit(each);
+    }
+    
+    private static int skipStringLiteral(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length()) {
+            char each = sql.charAt(result);
+            if ('\\' == each) {
+                result += 2;
+            } else if ('\'' == each) {
+                if (result + 1 < sql.length() && '\'' == sql.charAt(result + 1)) {
+                    result += 2;
+                } else {
+                    return result + 1;
+                }
+            } else {
+                result++;
+            }
+        }
+        return sql.length();
+    }
+    
+    private static int skipNumericLiteral(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && ('.' == sql.charAt(result) || Character.isLetterOrDigit(sql.charAt(result)))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static int skipWhitespaces(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && Character.isWhitespace(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private static boolean isIdentifierPart(final StringBuilder normalized) {
+        if (0 == normalized.length()) {
+            return false;
+        }
+        char last = normalized.charAt(normalized.length() - 1);
+        return '_' == last || '$' == last || Character.isLetterOrDigit(last);
+    }
+}
@@ -17,7 +17,10 @@
 
 package org.apache.shardingsphere.sql.parser.core.database.parser;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.Parser;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
@@ -34,8 +37,16 @@ import org.apache.shardingsphere.sql.parser.spi.DatabaseTypedSQLParserFacade;
 @RequiredArgsConstructor
 public final class SQLParserExecutor {
     
+    private static final int LL_PREDICTION_FINGERPRINTS_MAXIMUM_SIZE = 2048;
+    
+    private static final int FINGERPRINT_HEAD_LENGTH = 64;
+    
     private final String databaseType;
     
+    private final Cache<String, Boolean> llPredictionFingerprints = CacheBuilder.newBuilder().maximumSize(LL_PREDICTION_FINGERPRINTS_MAXIMUM_SIZE).build();
+    
+    private final Cache<String, Boolean> llPredictionFingerprintHeads = CacheBuilder.newBuilder().maximumSize(LL_PREDICTION_FINGERPRINTS_MAXIMUM_SIZE).build();
+    
     /**
      * Parse SQL.
      * 
@@ -43,27 +54,76 @@ public final class SQLParserExecutor {
      * @return parse AST node
      */
     public ParseASTNode parse(final String sql) {
-        ParseASTNode result = twoPhaseParse(sql);
+        return parse(sql, null);
+    }
+    
+    /**
+     * Parse SQL from char stream.
+     * 
+     * @param sql SQL to be parsed
+     * @param charStream char stream of SQL, null means creating from SQL
+     * @return parse AST node
+     */
+    public ParseASTNode parse(final String sql, final CharStream charStream) {
+        ParseASTNode result = twoPhaseParse(sql, charStream);
         if (result.getRootNode() instanceof ErrorNode) {
             throw new SQLParsingException("Unsupported SQL of `%s`", sql);
         }
         return result;
     }
     
-    private ParseASTNode twoPhaseParse(final String sql) {
+    private ParseASTNode twoPhaseParse(final String sql, final CharStream charStream) {
         DatabaseTypedSQLParserFacade sqlParserFacade = DatabaseTypedSQLParserFacadeRegistry.getFacade(databaseType);
-        SQLParser sqlParser = SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
+        SQLParser sqlParser = null == charStream
+                ? SQLParserFactory.newInstance(sql, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass())
+                : SQLParserFactory.newInstance(charStream, sqlParserFacade.getLexerClass(), sqlParserFacade.getParserClass());
         try {
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
-            return (ParseASTNode) sqlParser.parse();
-        } catch (final ParseCancellationException ex) {
-            ((Parser) sqlParser).reset();
-            ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
+            if (isLLPredictionRequired(sql)) {
+                return parseWithRecordedLLPrediction(sqlParser);
+            }
             try {
+                ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.SLL);
                 return (ParseASTNode) sqlParser.parse();
-            } catch (final ParseCancellationException e) {
-                throw new SQLParsingException("You have an error in your SQL syntax");
+            } catch (final ParseCancellationException ex) {
+                return fallbackToLLPrediction(sql, sqlParser);
             }
+        } finally {
+            SQLParserFactory.releaseInput(sqlParser);
+        }
+    }
+    
+    private ParseASTNode parseWithRecordedLLPrediction(final SQLParser sqlParser) {
+        return parseWithLLPrediction(sqlParser);
+    }
+    
+    private ParseASTNode fallbackToLLPrediction(final String sql, final SQLParser sqlParser) {
+        ((Parser) sqlParser).reset();
+        ParseASTNode result = parseWithLLPrediction(sqlParser);
+        if (!(result.getRootNode() instanceof ErrorNode)) {
+            recordLLPredictionRequired(sql);
+        }
+        return result;
+    }
+    
+    private boolean isLLPredictionRequired(final String sql) {
+        if (0 == llPredictionFingerprintHeads.size() || null == llPredictionFingerprintHeads.getIfPresent(SQLFingerprint.normalize(sql, FINGERPRINT_HEAD_LENGTH))) {
+            return false;
+        }
+        return null != llPredictionFingerprints.getIfPresent(SQLFingerprint.normalize(sql));
+    }
+    
+    private void recordLLPredictionRequired(final String sql) {
+        String fingerprint = SQLFingerprint.normalize(sql);
+        llPredictionFingerprints.put(fingerprint, true);
+        llPredictionFingerprintHeads.put(fingerprint.substring(0, Math.min(fingerprint.length(), FINGERPRINT_HEAD_LENGTH)), true);
+    }
+    
+    private ParseASTNode parseWithLLPrediction(final SQLParser sqlParser) {
+        ((Parser) sqlParser).getInterpreter().setPredictionMode(PredictionMode.LL);
+        try {
+            return (ParseASTNode) sqlParser.parse();
+        } catch (final ParseCancellationException ex) {
+            throw new SQLParsingException("You have an error in your SQL syntax");
         }
     }
 }
@@ -17,13 +17,18 @@
 
 package org.apache.shardingsphere.sql.parser.core;
 
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
 import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
 import org.apache.shardingsphere.sql.parser.fixture.LexerFixture;
 import org.apache.shardingsphere.sql.parser.fixture.ParserFixture;
+import org.apache.shardingsphere.sql.parser.fixture.PredictionModeLexerFixture;
+import org.apache.shardingsphere.sql.parser.fixture.PredictionModeParserFixture;
 import org.junit.Test;
 
 import static org.mockito.Mockito.mock;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.hamcrest.CoreMatchers.instanceOf;
 
@@ -38,4 +43,13 @@ public final class SQLParserFactoryTest {
         SQLParser result = SQLParserFactory.newInstance(SQL, sqlLexer.getClass(), sqlParser.getClass());
         assertThat(result, instanceOf(ParserFixture.class));
     }
+    
+    @Test
+    public void assertReleaseInput() {
+        SQLParser sqlParser = SQLParserFactory.newInstance(SQL, PredictionModeLexerFixture.class, PredictionModeParserFixture.class);
+        Lexer lexer = (Lexer) ((Parser) sqlParser).getTokenStream().getTokenSource();
+        SQLParserFactory.releaseInput(sqlParser);
+        assertNull(((Parser) sqlParser).getTokenStream());
+        assertNull(lexer.getInputStream());
+    }
 }
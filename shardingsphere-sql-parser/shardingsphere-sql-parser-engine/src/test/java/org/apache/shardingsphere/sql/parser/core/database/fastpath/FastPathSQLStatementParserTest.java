@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.fastpath;
+
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.column.ColumnSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ColumnProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ShorthandProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.postgresql.dml.PostgreSQLSelectStatement;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class FastPathSQLStatementParserTest {
+    
+    private static final Collection<String> KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "FROM", "WHERE", "AND", "DISTINCT", "ORDER", "BY", "STATUS", "LOCALTIME", "CURRENT_USER"));
+    
+    @Test
+    public void assertParseMySQLSelect() {
+        Optional<SQLStatement> actual = new FastPathSQLStatementParser("MySQL", KEYWORDS).parse("SELECT order_id, `status` FROM t_order WHERE user_id = ? and order_id = ?");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(MySQLSelectStatement.class));
+        MySQLSelectStatement actualStatement = (MySQLSelectStatement) actual.get();
+        assertThat(actualStatement.getProjections().getStartIndex(), is(7));
+        assertThat(actualStatement.getProjections().getStopIndex(), is(24));
+        assertThat(actualStatement.getProjections().getProjections().size(), is(2));
+        ColumnSegment statusColumn = ((ColumnProjectionSegment) actualStatement.getProjections().getProjections().toArray()[1]).getColumn();
+        assertThat(statusColumn.getIdentifier().getValue(), is("status"));
+        assertThat(statusColumn.getStartIndex(), is(17));
+        SimpleTableSegment table = (SimpleTableSegment) actualStatement.getFrom();
+        assertThat(table.getTableName().getIdentifier().getValue(), is("t_order"));
+        assertThat(table.getTableName().getStartIndex(), is(31));
+        assertThat(table.getTableName().getStopIndex(), is(37));
+        assertTrue(actualStatement.getWhere().isPresent());
+        assertThat(actualStatement.getWhere().get().getStartIndex(), is(39));
+        BinaryOperationExpression expr = (BinaryOperationExpression) actualStatement.getWhere().get().getExpr();
+        assertThat(expr.getOperator(), is("and"));
+        assertThat(expr.getText(), is("user_id = ? and order_id = ?"));
+        assertThat(((ParameterMarkerExpressionSegment) ((BinaryOperationExpression) expr.getRight()).getRight()).getParameterMarkerIndex(), is(1));
+        assertThat(actualStatement.getParameterCount(), is(2));
+        assertThat(actualStatement.getParameterMarkerSegments().size(), is(2));
+    }
+    
+    @Test
+    public void assertParsePostgreSQLSelectAll() {
+        Optional<SQLStatement> actual = new FastPathSQLStatementParser("PostgreSQL", KEYWORDS).parse("SELECT * FROM \"t_order\"");
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), instanceOf(PostgreSQLSelectStatement.class));
+        PostgreSQLSelectStatement actualStatement = (PostgreSQLSelectStatement) actual.get();
+        assertThat(actualStatement.getProjections().getProjections().iterator().next(), instanceOf(ShorthandProjectionSegment.class));
+        assertThat(((SimpleTableSegment) actualStatement.getFrom()).getTableName().getIdentifier().getValue(), is("t_order"));
+        assertFalse(actualStatement.getWhere().isPresent());
+        assertThat(actualStatement.getParameterCount(), is(0));
+    }
+    
+    @Test
+    public void assertParseUnsupportedSQL() {
+        FastPathSQLStatementParser parser = new FastPathSQLStatementParser("MySQL", KEYWORDS);
+        assertFalse(parser.parse("SELECT order_id FROM t_order WHERE order_id = 1").isPresent());
+        assertFalse(parser.parse("SELECT order_id FROM t_order o WHERE o.order_id = ?").isPresent());
+        assertFalse(parser.parse("SELECT order_id FROM t_order WHERE order_id = ? ORDER BY order_id").isPresent());
+        assertFalse(parser.parse("SELECT DISTINCT order_id FROM t_order").isPresent());
+        assertFalse(parser.parse("SELECT order_id FROM t_order /* comment */").isPresent());
+    }
+    
+    @Test
+    public void assertParseWithKeywordIdentifier() {
+        FastPathSQLStatementParser parser = new FastPathSQLStatementParser("MySQL", KEYWORDS);
+        assertFalse(parser.parse("SELECT localtime FROM t_order").isPresent());
+        assertFalse(parser.parse("SELECT order_id FROM t_order WHERE status = ?").isPresent());
+        assertFalse(parser.parse("SELECT current_user FROM t_order").isPresent());
+        assertTrue(parser.parse("SELECT `localtime` FROM t_order WHERE `status` = ?").isPresent());
+    }
+    
+    @Test
+    public void assertParseWithoutDialectLexer() {
+        assertFalse(new FastPathSQLStatementParser("MySQL").parse("SELECT order_id FROM t_order WHERE order_id = ?").isPresent());
+    }
+    
+    @Test
+    public void assertParseWithUnsupportedDatabaseType() {
+        assertFalse(new FastPathSQLStatementParser("Oracle", KEYWORDS).parse("SELECT order_id FROM t_order WHERE order_id = ?").isPresent());
+    }
+}
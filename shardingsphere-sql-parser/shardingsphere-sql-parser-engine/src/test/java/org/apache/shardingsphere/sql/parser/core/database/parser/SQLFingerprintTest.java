@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+
+public final class SQLFingerprintTest {
+    
+    @Test
+    public void assertNormalizeNumericLiterals() {
+        assertThat(SQLFingerprint.normalize("SELECT * FROM t_order_1 WHERE order_id = 12345 AND price > 1.5E3"), is("SELECT * FROM t_order_1 WHERE order_id = ? AND price > ?"));
+    }
+    
+    @Test
+    public void assertNormalizeStringLiterals() {
+        assertThat(SQLFingerprint.normalize("SELECT * FROM t_user WHERE name = 'it''s' OR pwd = 'a\\'b'"), is("SELECT * FROM t_user WHERE name = ? OR pwd = ?"));
+    }
+    
+    @Test
+    public void assertNormalizeWhitespaces() {
+        assertThat(SQLFingerprint.normalize("SELECT  1\n\tFROM dual"), is("SELECT ? FROM dual"));
+    }
+    
+    @Test
+    public void assertNormalizeSameShape() {
+        assertThat(SQLFingerprint.normalize("INSERT INTO t_order (order_id, status) VALUES (1, 'init')"), is(SQLFingerprint.normalize("INSERT INTO t_order (order_id, status) VALUES (1000, 'paid')")));
+    }
+    
+    @Test
+    public void assertNormalizeWithMaxLength() {
+        assertThat(SQLFingerprint.normalize("SELECT  * FROM t_order WHERE order_id = 12345", 22), is("SELECT * FROM t_order "));
+    }
+    
+    @Test
+    public void assertShapeMasksLiterals() {
+        assertThat(SQLFingerprint.shape("SELECT * FROM t_order_1 WHERE order_id = 123 AND status = 'ok'"), is(Optional.of("SELECT * FROM t_order_1 WHERE order_id = \0\0\0 AND status = '\0\0'")));
+    }
+    
+    @Test
+    public void assertShapeSameForLiteralsOfSameLengths() {
+        assertThat(SQLFingerprint.shape("INSERT INTO t_order (order_id, status) VALUES (1, 'init')"), is(SQLFingerprint.shape("INSERT INTO t_order (order_id, status) VALUES (2, 'paid')")));
+    }
+    
+    @Test
+    public void assertShapeDifferentForLiteralsOfDifferentLengths() {
+        assertThat(SQLFingerprint.shape("SELECT * FROM t_order WHERE order_id = 1"), not(SQLFingerprint.shape("SELECT * FROM t_order WHERE order_id = 10")));
+    }
+    
+    @Test
+    public void assertShapeDifferentForLiteralAndParameterMarker() {
+        assertThat(SQLFingerprint.shape("SELECT * FROM t_order WHERE order_id = 1"), not(SQLFingerprint.shape("SELECT * FROM t_order WHERE order_id = ?")));
+    }
+    
+    @Test
+    public void assertShapeKeepsQuotedIdentifiers() {
+        assertThat(SQLFingerprint.shape("SELECT `it's 1` FROM t_order"), is(Optional.of("SELECT `it's 1` FROM t_order")));
+    }
+    
+    @Test
+    public void assertShapeAbsent() {
+        assertFalse(SQLFingerprint.shape("SELECT * FROM t_order WHERE order_id = 1 -- it's").isPresent());
+        assertFalse(SQLFingerprint.shape("SELECT * FROM t_order /* it's */ WHERE order_id = 1").isPresent());
+        assertFalse(SQLFingerprint.shape("SELECT * FROM t_user WHERE name = 'it''s'").isPresent());
+        assertFalse(SQLFingerprint.shape("SELECT * FROM t_user WHERE name = 'a\\'b'").isPresent());
+        assertFalse(SQLFingerprint.shape("SELECT * FROM t_user WHERE name = N'abc'").isPresent());
+        assertFalse(SQLFingerprint.shape("SELECT * FROM t_user WHERE name = $$abc$$").isPresent());
+    }
+}
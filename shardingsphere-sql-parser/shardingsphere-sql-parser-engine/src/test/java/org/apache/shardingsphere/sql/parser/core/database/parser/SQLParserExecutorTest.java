@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.core.database.parser;
+
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.apache.shardingsphere.sql.parser.exception.SQLParsingException;
+import org.apache.shardingsphere.sql.parser.fixture.PredictionModeParserFixture;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+public final class SQLParserExecutorTest {
+    
+    private final SQLParserExecutor sqlParserExecutor = new SQLParserExecutor("PredictionModeFixture");
+    
+    @Before
+    public void setUp() {
+        PredictionModeParserFixture.getPredictionModes().clear();
+    }
+    
+    @Test
+    public void assertParseWithSLLPrediction() {
+        sqlParserExecutor.parse("SELECT * FROM t_order WHERE order_id = 1");
+        sqlParserExecutor.parse("SELECT * FROM t_order WHERE order_id = 2");
+        assertThat(PredictionModeParserFixture.getPredictionModes(), is(Arrays.asList(PredictionMode.SLL, PredictionMode.SLL)));
+    }
+    
+    @Test
+    public void assertParseSameShapeWithLLPredictionDirectly() {
+        sqlParserExecutor.parse("SELECT * FROM t_order WHERE order_id = 1 AND ambiguous = 'foo'");
+        assertThat(PredictionModeParserFixture.getPredictionModes(), is(Arrays.asList(PredictionMode.SLL, PredictionMode.LL)));
+        PredictionModeParserFixture.getPredictionModes().clear();
+        sqlParserExecutor.parse("SELECT * FROM t_order WHERE order_id = 2 AND ambiguous = 'bar'");
+        assertThat(PredictionModeParserFixture.getPredictionModes(), is(Collections.singletonList(PredictionMode.LL)));
+    }
+    
+    @Test
+    public void assertParseDifferentShapeWithSLLPredictionFirst() {
+        sqlParserExecutor.parse("SELECT * FROM t_order WHERE order_id = 1 AND ambiguous = 'foo'");
+        PredictionModeParserFixture.getPredictionModes().clear();
+        sqlParserExecutor.parse("SELECT * FROM t_order WHERE order_id = 1 AND status = 'foo'");
+        assertThat(PredictionModeParserFixture.getPredictionModes(), is(Collections.singletonList(PredictionMode.SLL)));
+    }
+    
+    @Test
+    public void assertSyntaxErrorNotRecorded() {
+        assertParseFailed("SELECT * FROM t_order WHERE syntax error = 1");
+        PredictionModeParserFixture.getPredictionModes().clear();
+        assertParseFailed("SELECT * FROM t_order WHERE syntax error = 2");
+        assertThat(PredictionModeParserFixture.getPredictionModes(), is(Arrays.asList(PredictionMode.SLL, PredictionMode.LL)));
+    }
+    
+    private void assertParseFailed(final String sql) {
+        try {
+            sqlParserExecutor.parse(sql);
+            fail("Expected SQLParsingException");
+        } catch (final SQLParsingException ignored) {
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.fixture;
+
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Parser;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ParserATNSimulator;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
+import org.antlr.v4.runtime.tree.TerminalNodeImpl;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLParser;
+import org.apache.shardingsphere.sql.parser.api.visitor.ASTNode;
+import org.apache.shardingsphere.sql.parser.core.ParseASTNode;
+
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Parser fixture which requires LL prediction for SQL containing {@code ambiguous} and cancels parsing for SQL containing {@code syntax error}.
+ */
+public final class PredictionModeParserFixture extends Parser implements SQLParser {
+    
+    private static final List<PredictionMode> PREDICTION_MODES = new LinkedList<>();
+    
+    public PredictionModeParserFixture(final TokenStream input) {
+        super(input);
+        _interp = new ParserATNSimulator(this, null, null, null);
+    }
+    
+    /**
+     * Get prediction modes of parse invocations.
+     * 
+     * @return prediction modes
+     */
+    public static List<PredictionMode> getPredictionModes() {
+        return PREDICTION_MODES;
+    }
+    
+    @Override
+    public ASTNode parse() {
+        PredictionMode predictionMode = getInterpreter().getPredictionMode();
+        PREDICTION_MODES.add(predictionMode);
+        String sql = ((Lexer) getInputStream().getTokenSource()).getInputStream().toString();
+        if (sql.contains("syntax error") || PredictionMode.SLL == predictionMode && sql.contains("ambiguous")) {
+            throw new ParseCancellationException(sql);
+        }
+        ParserRuleContext parseTree = new ParserRuleContext();
+        parseTree.addChild(new TerminalNodeImpl(new CommonToken(1)));
+        return new ParseASTNode(parseTree, (CommonTokenStream) getInputStream());
+    }
+    
+    @Override
+    public void reset() {
+    }
+    
+    @Override
+    public String[] getTokenNames() {
+        return new String[0];
+    }
+    
+    @Override
+    public String[] getRuleNames() {
+        return new String[0];
+    }
+    
+    @Override
+    public String getGrammarFileName() {
+        return null;
+    }
+    
+    @Override
+    public ATN getATN() {
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.binder;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkScenario;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.ParserConfiguration;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link SQLStatementContextFactory#newInstance(Map, java.util.List, SQLStatement, String)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SQLStatementContextBenchmark {
+    
+    @Param({"SHARDING", "ENCRYPT", "READWRITE_SPLITTING"})
+    private BenchmarkScenario scenario;
+    
+    private Map<String, ShardingSphereMetaData> metaDataMap;
+    
+    private SQLStatement sqlStatement;
+    
+    /**
+     * Set up meta data and parsed SQL statement.
+     */
+    @Setup
+    public void setUp() {
+        metaDataMap = scenario.createMetaDataMap();
+        sqlStatement = new ShardingSphereSQLParserEngine("MySQL", new ParserConfiguration(new CacheOption(2000, 65535L, 4), new CacheOption(128, 1024L, 4), false))
+                .parse(scenario.getSql(), false);
+    }
+    
+    /**
+     * Create SQL statement context.
+     *
+     * @return SQL statement context
+     */
+    @Benchmark
+    public SQLStatementContext<?> newInstance() {
+        return SQLStatementContextFactory.newInstance(metaDataMap, scenario.getParameters(), sqlStatement, BenchmarkScenario.DATABASE_NAME);
+    }
+}
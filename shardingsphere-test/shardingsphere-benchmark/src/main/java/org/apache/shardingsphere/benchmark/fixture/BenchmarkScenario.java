@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.fixture;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.encrypt.api.config.EncryptRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptColumnRuleConfiguration;
+import org.apache.shardingsphere.encrypt.api.config.rule.EncryptTableRuleConfiguration;
+import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.infra.config.RuleConfiguration;
+import org.apache.shardingsphere.infra.config.algorithm.ShardingSphereAlgorithmConfiguration;
+import org.apache.shardingsphere.infra.database.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.DataSourcesMetaData;
+import org.apache.shardingsphere.infra.metadata.resource.ShardingSphereResource;
+import org.apache.shardingsphere.infra.metadata.rule.ShardingSphereRuleMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.schema.model.ColumnMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.model.TableMetaData;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Benchmark scenario.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum BenchmarkScenario {
+    
+    SHARDING("SELECT order_id, user_id, status FROM t_order WHERE user_id = ? AND order_id = ?", Arrays.<Object>asList(10, 1000), Arrays.asList("ds_0", "ds_1")) {
+        
+        @Override
+        protected RuleConfiguration createRuleConfiguration() {
+            ShardingRuleConfiguration result = new ShardingRuleConfiguration();
+            ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+            tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "database_inline"));
+            tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+            result.getTables().add(tableRuleConfig);
+            result.getShardingAlgorithms().put("database_inline", createInlineAlgorithmConfiguration("ds_${user_id % 2}"));
+            result.getShardingAlgorithms().put("table_inline", createInlineAlgorithmConfiguration("t_order_${order_id % 2}"));
+            return result;
+        }
+        
+        @Override
+        protected ShardingSphereRule createRule(final RuleConfiguration ruleConfig, final Map<String, DataSource> dataSources) {
+            return new ShardingRule((ShardingRuleConfiguration) ruleConfig, dataSources.keySet());
+        }
+    },
+    
+    ENCRYPT("SELECT user_id, pwd FROM t_user WHERE user_id = ? AND pwd = ?", Arrays.<Object>asList(10, "123456"), Collections.singletonList("ds")) {
+        
+        @Override
+        protected RuleConfiguration createRuleConfiguration() {
+            EncryptColumnRuleConfiguration columnRuleConfig = new EncryptColumnRuleConfiguration("pwd", "pwd_cipher", "", "", "aes_encryptor");
+            Properties props = new Properties();
+            props.setProperty("aes-key-value", "123456abc");
+            return new EncryptRuleConfiguration(Collections.singleton(new EncryptTableRuleConfiguration("t_user", Collections.singleton(columnRuleConfig), null)),
+                    Collections.singletonMap("aes_encryptor", new ShardingSphereAlgorithmConfiguration("AES", props)));
+        }
+        
+        @Override
+        protected ShardingSphereRule createRule(final RuleConfiguration ruleConfig, final Map<String, DataSource> dataSources) {
+            return new EncryptRule((EncryptRuleConfiguration) ruleConfig, dataSources);
+        }
+    },
+    
+    READWRITE_SPLITTING("SELECT order_id, user_id, status FROM t_order WHERE order_id = ?", Collections.<Object>singletonList(1000), Arrays.asList("write_ds", "read_ds_0", "read_ds_1")) {
+        
+        @Override
+        protected RuleConfiguration createRuleConfiguration() {
+            Properties props = new Properties();
+            props.setProperty("write-data-source-name", "write_ds");
+            props.setProperty("read-data-source-names", "read_ds_0,read_ds_1");
+            return new ReadwriteSplittingRuleConfiguration(Collections.singleton(new ReadwriteSplittingDataSourceRuleConfiguration("readwrite_ds", "Static", props, "round_robin")),
+                    Collections.singletonMap("round_robin", new ShardingSphereAlgorithmConfiguration("ROUND_ROBIN", new Properties())));
+        }
+        
+        @Override
+        protected ShardingSphereRule createRule(final RuleConfiguration ruleConfig, final Map<String, DataSource> dataSources) {
+            return new ReadwriteSplittingRule((ReadwriteSplittingRuleConfiguration) ruleConfig);
+        }
+    };
+    
+    public static final String DATABASE_NAME = "benchmark_db";
+    
+    private final String sql;
+    
+    private final List<Object> parameters;
+    
+    private final Collection<String> dataSourceNames;
+    
+    /**
+     * Create ShardingSphere meta data of scenario.
+     *
+     * @return ShardingSphere meta data
+     */
+    public ShardingSphereMetaData createMetaData() {
+        DatabaseType databaseType = new MySQLDatabaseType();
+        Map<String, DataSource> dataSources = createDataSources();
+        RuleConfiguration ruleConfig = createRuleConfiguration();
+        Collection<ShardingSphereRule> rules = new LinkedList<>(Collections.singleton(createRule(ruleConfig, dataSources)));
+        ShardingSphereResource resource = new ShardingSphereResource(dataSources, new DataSourcesMetaData(databaseType, dataSources), null, databaseType);
+        return new ShardingSphereMetaData(DATABASE_NAME, resource, new ShardingSphereRuleMetaData(Collections.singleton(ruleConfig), rules),
+                Collections.singletonMap(DATABASE_NAME, createSchema()));
+    }
+    
+    /**
+     * Create ShardingSphere meta data map of scenario.
+     *
+     * @return ShardingSphere meta data map
+     */
+    public Map<String, ShardingSphereMetaData> createMetaDataMap() {
+        Map<String, ShardingSphereMetaData> result = new HashMap<>(1, 1);
+        result.put(DATABASE_NAME, createMetaData());
+        return result;
+    }
+    
+    private Map<String, DataSource> createDataSources() {
+        Map<String, DataSource> result = new LinkedHashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(String.format("jdbc:mysql://127.0.0.1:3306/%s", each));
+            dataSource.setUsername("root");
+            result.put(each, dataSource);
+        }
+        return result;
+    }
+    
+    private static ShardingSphereSchema createSchema() {
+        Map<String, TableMetaData> tables = new HashMap<>(2, 1);
+        tables.put("t_order", new TableMetaData("t_order", Arrays.asList(new ColumnMetaData("order_id", Types.BIGINT, true, false, false),
+                new ColumnMetaData("user_id", Types.INTEGER, false, false, false), new ColumnMetaData("status", Types.VARCHAR, false, false, false)),
+                Collections.emptyList(), Collections.emptyList()));
+        tables.put("t_user", new TableMetaData("t_user", Arrays.asList(new ColumnMetaData("user_id", Types.INTEGER, true, false, false),
+                new ColumnMetaData("pwd", Types.VARCHAR, false, false, false)), Collections.emptyList(), Collections.emptyList()));
+        return new ShardingSphereSchema(tables);
+    }
+    
+    private static ShardingSphereAlgorithmConfiguration createInlineAlgorithmConfiguration(final String algorithmExpression) {
+        Properties props = new Properties();
+        props.setProperty("algorithm-expression", algorithmExpression);
+        return new ShardingSphereAlgorithmConfiguration("INLINE", props);
+    }
+    
+    protected abstract RuleConfiguration createRuleConfiguration();
+    
+    protected abstract ShardingSphereRule createRule(RuleConfiguration ruleConfig, Map<String, DataSource> dataSources);
+}
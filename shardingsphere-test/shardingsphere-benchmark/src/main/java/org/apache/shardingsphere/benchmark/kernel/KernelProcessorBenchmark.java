@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.kernel;
+
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkScenario;
+import org.apache.shardingsphere.infra.binder.LogicSQL;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.context.kernel.KernelProcessor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.parser.ParserConfiguration;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link KernelProcessor#generateExecutionContext(LogicSQL, ShardingSphereMetaData, ConfigurationProperties)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KernelProcessorBenchmark {
+    
+    @Param({"SHARDING", "ENCRYPT", "READWRITE_SPLITTING"})
+    private BenchmarkScenario scenario;
+    
+    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    
+    private final ConfigurationProperties props = new ConfigurationProperties(new Properties());
+    
+    private ShardingSphereSQLParserEngine sqlParserEngine;
+    
+    private Map<String, ShardingSphereMetaData> metaDataMap;
+    
+    private ShardingSphereMetaData metaData;
+    
+    private LogicSQL logicSQL;
+    
+    /**
+     * Set up meta data and logic SQL.
+     */
+    @Setup
+    public void setUp() {
+        sqlParserEngine = new ShardingSphereSQLParserEngine("MySQL", new ParserConfiguration(new CacheOption(2000, 65535L, 4), new CacheOption(128, 1024L, 4), false));
+        metaDataMap = scenario.createMetaDataMap();
+        metaData = metaDataMap.get(BenchmarkScenario.DATABASE_NAME);
+        logicSQL = createLogicSQL();
+    }
+    
+    private LogicSQL createLogicSQL() {
+        SQLStatementContext<?> sqlStatementContext = SQLStatementContextFactory.newInstance(
+                metaDataMap, scenario.getParameters(), sqlParserEngine.parse(scenario.getSql(), true), BenchmarkScenario.DATABASE_NAME);
+        return new LogicSQL(sqlStatementContext, scenario.getSql(), scenario.getParameters());
+    }
+    
+    /**
+     * Generate execution context, including route and rewrite.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext generateExecutionContext() {
+        return kernelProcessor.generateExecutionContext(logicSQL, metaData, props);
+    }
+    
+    /**
+     * Parse with statement cache, bind and generate execution context, which is the whole kernel path of one prepared execution.
+     *
+     * @return execution context
+     */
+    @Benchmark
+    public ExecutionContext parseBindAndGenerateExecutionContext() {
+        return kernelProcessor.generateExecutionContext(createLogicSQL(), metaData, props);
+    }
+}
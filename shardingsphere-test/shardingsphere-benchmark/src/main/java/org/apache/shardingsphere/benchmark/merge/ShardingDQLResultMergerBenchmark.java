@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.benchmark.merge;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.benchmark.fixture.BenchmarkScenario;
+import org.apache.shardingsphere.infra.binder.SQLStatementContextFactory;
+import org.apache.shardingsphere.infra.binder.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.database.type.dialect.MySQLDatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultColumnMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.metadata.RawQueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.raw.type.RawMemoryQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.schema.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.parser.ParserConfiguration;
+import org.apache.shardingsphere.infra.parser.ShardingSphereSQLParserEngine;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.api.CacheOption;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for {@link ShardingDQLResultMerger} driven by in-memory query results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShardingDQLResultMergerBenchmark {
+    
+    @Param({"ITERATOR", "ORDER_BY_STREAM", "GROUP_BY_STREAM", "GROUP_BY_MEMORY"})
+    private MergeType mergeType;
+    
+    @Param({"4", "16", "64"})
+    private int shardCount;
+    
+    @Param("1000")
+    private int rowCountPerShard;
+    
+    private final ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(new MySQLDatabaseType());
+    
+    private SQLStatementContext<?> sqlStatementContext;
+    
+    private ShardingSphereSchema schema;
+    
+    private RawQueryResultMetaData queryResultMetaData;
+    
+    private List<List<MemoryQueryResultDataRow>> shardRows;
+    
+    /**
+     * Set up SQL statement context and rows of all shards.
+     */
+    @Setup
+    public void setUp() {
+        Map<String, ShardingSphereMetaData> metaDataMap = BenchmarkScenario.SHARDING.createMetaDataMap();
+        schema = metaDataMap.get(BenchmarkScenario.DATABASE_NAME).getDefaultSchema();
+        ShardingSphereSQLParserEngine sqlParserEngine = new ShardingSphereSQLParserEngine("MySQL", new ParserConfiguration(new CacheOption(2000, 65535L, 4), new CacheOption(128, 1024L, 4), false));
+        sqlStatementContext = SQLStatementContextFactory.newInstance(metaDataMap, sqlParserEngine.parse(mergeType.getSql(), false), BenchmarkScenario.DATABASE_NAME);
+        queryResultMetaData = mergeType.isGroupBy() ? createQueryResultMetaData("user_id", "cnt") : createQueryResultMetaData("order_id", "user_id", "status");
+        shardRows = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardRows.add(createRows(i));
+        }
+    }
+    
+    private RawQueryResultMetaData createQueryResultMetaData(final String... columnLabels) {
+        List<RawQueryResultColumnMetaData> columns = new ArrayList<>(columnLabels.length);
+        for (String each : columnLabels) {
+            columns.add("status".equals(each) ? new RawQueryResultColumnMetaData("t_order", each, each, Types.VARCHAR, "VARCHAR", 32, 0)
+                    : new RawQueryResultColumnMetaData("t_order", each, each, Types.BIGINT, "BIGINT", 20, 0));
+        }
+        return new RawQueryResultMetaData(columns);
+    }
+    
+    private List<MemoryQueryResultDataRow> createRows(final int shardIndex) {
+        List<MemoryQueryResultDataRow> result = new ArrayList<>(rowCountPerShard);
+        for (int i = 0; i < rowCountPerShard; i++) {
+            long orderId = (long) i * shardCount + shardIndex;
+            long userId = i / 10;
+            result.add(new MemoryQueryResultDataRow(mergeType.isGroupBy() ? Arrays.<Object>asList(userId, 10L) : Arrays.<Object>asList(orderId, userId, "OK")));
+        }
+        return result;
+    }
+    
+    /**
+     * Merge query results of all shards and iterate merged result.
+     *
+     * @param blackhole blackhole
+     * @throws SQLException SQL exception
+     */
+    @Benchmark
+    public void merge(final Blackhole blackhole) throws SQLException {
+        List<QueryResult> queryResults = new ArrayList<>(shardCount);
+        for (List<MemoryQueryResultDataRow> each : shardRows) {
+            queryResults.add(new RawMemoryQueryResult(queryResultMetaData, each));
+        }
+        MergedResult mergedResult = resultMerger.merge(queryResults, sqlStatementContext, schema);
+        while (mergedResult.next()) {
+            blackhole.consume(mergedResult.getValue(1, Object.class));
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    public enum MergeType {
+        
+        ITERATOR("SELECT order_id, user_id, status FROM t_order", false),
+        
+        ORDER_BY_STREAM("SELECT order_id, user_id, status FROM t_order ORDER BY order_id", false),
+        
+        GROUP_BY_STREAM("SELECT user_id, COUNT(*) AS cnt FROM t_order GROUP BY user_id ORDER BY user_id", true),
+        
+        GROUP_BY_MEMORY("SELECT user_id, COUNT(*) AS cnt FROM t_order GROUP BY user_id ORDER BY cnt DESC", true);
+        
+        private final String sql;
+        
+        private final boolean groupBy;
+    }
+}
@@ -85,6 +85,17 @@ public final class GovernanceRepositoryAPIImplTest {
         assertTrue(checkResult.isPresent() && checkResult.get());
     }
     
+    @Test
+    public void assertPersistJobCheckProgress() {
+        RuleAlteredJobContext jobContext = mockJobContext();
+        governanceRepositoryAPI.persistJobCheckProgress(jobContext.getJobId(), "t_order", 100);
+        governanceRepositoryAPI.persistJobCheckProgress(jobContext.getJobId(), "t_order_item", "100");
+        assertThat(governanceRepositoryAPI.getJobCheckProgress(jobContext.getJobId(), "t_order"), is(Optional.of(100)));
+        assertThat(governanceRepositoryAPI.getJobCheckProgress(jobContext.getJobId(), "t_order_item"), is(Optional.of("100")));
+        governanceRepositoryAPI.deleteJobCheckProgress(jobContext.getJobId());
+        assertFalse(governanceRepositoryAPI.getJobCheckProgress(jobContext.getJobId(), "t_order").isPresent());
+    }
+    
     @Test
     public void assertDeleteJob() {
         governanceRepositoryAPI.persist(DataPipelineConstants.DATA_PIPELINE_ROOT + "/1", "");
@@ -49,6 +49,7 @@ import java.util.Set;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -136,7 +137,26 @@ public final class AbstractImporterTest {
         verify(preparedStatement).setObject(2, "UPDATE");
         verify(preparedStatement).setObject(3, 1);
         verify(preparedStatement).setObject(4, 10);
-        verify(preparedStatement).execute();
+        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeBatch();
+    }
+    
+    @Test
+    public void assertBatchUpdateDataRecords() throws SQLException {
+        DataRecord updateRecord1 = getDataRecord("UPDATE", 1);
+        DataRecord updateRecord2 = getDataRecord("UPDATE", 2);
+        when(pipelineSqlBuilder.buildUpdateSQL(any(), any())).thenReturn(UPDATE_SQL);
+        when(connection.prepareStatement(UPDATE_SQL)).thenReturn(preparedStatement);
+        List<Record> records = mockRecords(updateRecord1);
+        records.add(0, updateRecord2);
+        when(channel.fetchRecords(anyInt(), anyInt())).thenReturn(records);
+        when(pipelineSqlBuilder.extractUpdatedColumns(any(), any())).thenReturn(RecordUtil.extractUpdatedColumns(updateRecord1));
+        jdbcImporter.run();
+        verify(connection).prepareStatement(UPDATE_SQL);
+        verify(preparedStatement).setObject(3, 1);
+        verify(preparedStatement).setObject(3, 2);
+        verify(preparedStatement, times(2)).addBatch();
+        verify(preparedStatement).executeBatch();
     }
     
     @Test
@@ -178,10 +198,14 @@ public final class AbstractImporterTest {
     }
     
     private DataRecord getDataRecord(final String recordType) {
+        return getDataRecord(recordType, 1);
+    }
+    
+    private DataRecord getDataRecord(final String recordType, final int id) {
         DataRecord result = new DataRecord(new PlaceholderPosition(), 3);
         result.setTableName(TABLE_NAME);
         result.setType(recordType);
-        result.addColumn(new Column("id", 1, false, true));
+        result.addColumn(new Column("id", id, false, true));
         result.addColumn(new Column("user", 10, true, false));
         result.addColumn(new Column("status", recordType, true, false));
         return result;
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.IngestPosition;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.FinishedRecord;
 import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
@@ -30,6 +31,8 @@ import org.apache.shardingsphere.data.pipeline.api.ingest.channel.AckCallback;
 import org.junit.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.CountDownLatch;
@@ -37,6 +40,8 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -62,6 +67,66 @@ public final class MultiplexMemoryPipelineChannelTest {
         execute(records -> assertThat(records.size(), is(1)), 2, new FinishedRecord(new PlaceholderPosition()));
     }
     
+    @Test
+    public void assertAckCallbackWaitForPreviousRecordsOfOtherChannels() throws InterruptedException {
+        List<Record> ackedRecords = new LinkedList<>();
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, ackedRecords::addAll);
+        Record placeholderRecord = new PlaceholderRecord(new IntPosition(1));
+        Record dataRecord = createDataRecord(new IntPosition(2), 1);
+        memoryChannel.pushRecord(placeholderRecord);
+        memoryChannel.pushRecord(dataRecord);
+        List<Record> firstChannelRecords = memoryChannel.fetchRecords(1, 0);
+        assertThat(firstChannelRecords, is(Collections.singletonList(placeholderRecord)));
+        Thread secondChannelConsumer = new Thread(() -> memoryChannel.ack(memoryChannel.fetchRecords(1, 0)));
+        secondChannelConsumer.start();
+        secondChannelConsumer.join();
+        assertTrue(ackedRecords.isEmpty());
+        memoryChannel.ack(firstChannelRecords);
+        assertThat(ackedRecords.size(), is(2));
+        assertThat(ackedRecords.get(0), sameInstance(placeholderRecord));
+        assertThat(ackedRecords.get(1), sameInstance(dataRecord));
+        memoryChannel.close();
+    }
+    
+    @Test
+    public void assertPrimaryKeyChangedOnlyWaitForChannelOfOldKey() throws InterruptedException {
+        MultiplexMemoryPipelineChannel memoryChannel = new MultiplexMemoryPipelineChannel(CHANNEL_NUMBER, 10000, records -> {
+        });
+        DataRecord oldKeyRecord = createDataRecord(new IntPosition(1), 0);
+        DataRecord newKeyChannelRecord = createDataRecord(new IntPosition(2), 1);
+        memoryChannel.pushRecord(oldKeyRecord);
+        memoryChannel.pushRecord(newKeyChannelRecord);
+        List<Record> firstChannelRecords = memoryChannel.fetchRecords(1, 0);
+        assertThat(firstChannelRecords, is(Collections.singletonList(oldKeyRecord)));
+        DataRecord primaryKeyChangedRecord = createPrimaryKeyChangedRecord(new IntPosition(3), oldKeyRecord.getColumn(0).getValue(), newKeyChannelRecord.getColumn(0).getValue());
+        Thread producer = new Thread(() -> memoryChannel.pushRecord(primaryKeyChangedRecord));
+        producer.start();
+        producer.join(200L);
+        assertTrue(producer.isAlive());
+        memoryChannel.ack(firstChannelRecords);
+        producer.join(10000L);
+        assertFalse(producer.isAlive());
+        memoryChannel.close();
+    }
+    
+    private DataRecord createDataRecord(final IngestPosition<?> position, final int channelIndex) {
+        for (int i = 0;; i++) {
+            DataRecord result = new DataRecord(position, 1);
+            result.setTableName("t_order");
+            result.addColumn(new Column("order_id", i, true, true));
+            if (channelIndex == Math.abs(result.getKey().hashCode() % CHANNEL_NUMBER)) {
+                return result;
+            }
+        }
+    }
+    
+    private DataRecord createPrimaryKeyChangedRecord(final IngestPosition<?> position, final Object oldValue, final Object value) {
+        DataRecord result = new DataRecord(position, 1);
+        result.setTableName("t_order");
+        result.addColumn(new Column("order_id", oldValue, value, true, true));
+        return result;
+    }
+    
     @SneakyThrows(InterruptedException.class)
     private void execute(final AckCallback ackCallback, final int recordCount, final Record... records) {
         CountDownLatch countDownLatch = new CountDownLatch(recordCount);
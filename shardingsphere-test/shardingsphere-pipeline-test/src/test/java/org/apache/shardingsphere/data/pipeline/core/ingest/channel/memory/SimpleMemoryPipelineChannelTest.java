@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ingest.channel.memory;
+
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.PlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.api.ingest.record.Record;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public final class SimpleMemoryPipelineChannelTest {
+    
+    @Test
+    public void assertFetchRecordsWakeUpWhenBatchFull() throws InterruptedException, ExecutionException, TimeoutException {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10);
+        CompletableFuture<List<Record>> future = CompletableFuture.supplyAsync(() -> channel.fetchRecords(2, 30));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        assertThat(future.get(10, TimeUnit.SECONDS).size(), is(2));
+    }
+    
+    @Test
+    public void assertFetchRecordsWhenTimeout() {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10);
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        assertThat(channel.fetchRecords(2, 1).size(), is(1));
+        assertTrue(channel.fetchRecords(2, 0).isEmpty());
+    }
+    
+    @Test
+    public void assertFetchRecordsWithBatchSize() {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(10);
+        for (int i = 0; i < 5; i++) {
+            channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        }
+        assertThat(channel.fetchRecords(3, 1).size(), is(3));
+        assertThat(channel.fetchRecords(3, 0).size(), is(2));
+    }
+    
+    @Test
+    public void assertPushRecordBlockedUntilFetched() throws InterruptedException, ExecutionException, TimeoutException {
+        SimpleMemoryPipelineChannel channel = new SimpleMemoryPipelineChannel(1);
+        channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition()));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> channel.pushRecord(new PlaceholderRecord(new PlaceholderPosition())));
+        TimeUnit.MILLISECONDS.sleep(100L);
+        assertFalse(future.isDone());
+        assertThat(channel.fetchRecords(1, 0).size(), is(1));
+        future.get(10, TimeUnit.SECONDS);
+        assertThat(channel.fetchRecords(1, 0).size(), is(1));
+    }
+}
@@ -66,4 +66,14 @@ public final class JobProgressYamlSwapperTest {
         YamlJobProgress actual = JOB_PROGRESS_YAML_SWAPPER.swapToYaml(jobProgress);
         assertThat(actual.getInventory().getFinished().length, is(0));
     }
+    
+    @Test
+    public void assertSwapRateLimit() {
+        JobProgress jobProgress = getJobProgress(ConfigurationFileUtil.readFile("job-progress.yaml"));
+        jobProgress.setInputRateLimit(100D);
+        jobProgress.setOutputRateLimit(2000D);
+        JobProgress actual = JOB_PROGRESS_YAML_SWAPPER.swapToObject(JOB_PROGRESS_YAML_SWAPPER.swapToYaml(jobProgress));
+        assertThat(actual.getInputRateLimit(), is(100D));
+        assertThat(actual.getOutputRateLimit(), is(2000D));
+    }
 }
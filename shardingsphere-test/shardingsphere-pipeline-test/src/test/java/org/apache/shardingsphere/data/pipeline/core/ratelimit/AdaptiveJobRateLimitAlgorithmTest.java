@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.ratelimit;
+
+import org.apache.shardingsphere.data.pipeline.api.job.JobOperationType;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+public final class AdaptiveJobRateLimitAlgorithmTest {
+    
+    private AdaptiveJobRateLimitAlgorithm algorithm;
+    
+    @Before
+    public void setUp() {
+        algorithm = new AdaptiveJobRateLimitAlgorithm();
+        Properties props = new Properties();
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.MIN_RATE_KEY, "100");
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.MAX_RATE_KEY, "1000");
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.INCREASE_STEP_KEY, "50");
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.LATENCY_THRESHOLD_MILLIS_KEY, "200");
+        algorithm.setProps(props);
+        algorithm.init();
+    }
+    
+    @Test
+    public void assertInitRateIsMaxRate() {
+        assertThat(algorithm.getCurrentRate().orElse(null), is(1000D));
+    }
+    
+    @Test
+    public void assertDecreaseRateMultiplicatively() {
+        algorithm.feedback(JobOperationType.SELECT, 500L);
+        assertThat(algorithm.getCurrentRate().orElse(null), is(500D));
+        algorithm.feedback(JobOperationType.SELECT, 500L);
+        algorithm.feedback(JobOperationType.SELECT, 500L);
+        assertThat(algorithm.getCurrentRate().orElse(null), is(125D));
+        algorithm.feedback(JobOperationType.SELECT, 500L);
+        assertThat(algorithm.getCurrentRate().orElse(null), is(100D));
+    }
+    
+    @Test
+    public void assertIncreaseRateAdditively() {
+        algorithm.feedback(JobOperationType.INSERT, 500L);
+        algorithm.feedback(JobOperationType.INSERT, 10L);
+        assertThat(algorithm.getCurrentRate().orElse(null), is(550D));
+        for (int i = 0; i < 20; i++) {
+            algorithm.feedback(JobOperationType.INSERT, 10L);
+        }
+        assertThat(algorithm.getCurrentRate().orElse(null), is(1000D));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void assertInitFailedWithMinRateGreaterThanMaxRate() {
+        AdaptiveJobRateLimitAlgorithm actual = new AdaptiveJobRateLimitAlgorithm();
+        Properties props = new Properties();
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.MIN_RATE_KEY, "100");
+        props.setProperty(AdaptiveJobRateLimitAlgorithm.MAX_RATE_KEY, "10");
+        actual.setProps(props);
+        actual.init();
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.data.pipeline.scenario.rulealtered.prepare;
 import org.apache.shardingsphere.data.pipeline.api.config.ingest.DumperConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.config.rulealtered.TaskConfiguration;
 import org.apache.shardingsphere.data.pipeline.api.ingest.position.PrimaryKeyPosition;
+import org.apache.shardingsphere.data.pipeline.api.ingest.position.StringPrimaryKeyPosition;
 import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourceManager;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCreationException;
 import org.apache.shardingsphere.data.pipeline.core.task.InventoryTask;
@@ -37,6 +38,7 @@ import java.util.List;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public final class InventoryTaskSplitterTest {
@@ -88,10 +90,16 @@ public final class InventoryTaskSplitterTest {
         assertThat(((PrimaryKeyPosition) actual.get(9).getProgress().getPosition()).getEndValue(), is(100L));
     }
     
-    @Test(expected = PipelineJobCreationException.class)
+    @Test
     public void assertSplitInventoryDataWithCharPrimary() throws SQLException {
+        taskConfig.getHandleConfig().setShardingSize(1);
         initCharPrimaryEnvironment(taskConfig.getDumperConfig());
-        inventoryTaskSplitter.splitInventoryData(jobContext);
+        List<InventoryTask> actual = inventoryTaskSplitter.splitInventoryData(jobContext);
+        assertThat(actual.size(), is(2));
+        assertNull(((StringPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getBeginValue());
+        assertThat(((StringPrimaryKeyPosition) actual.get(0).getProgress().getPosition()).getEndValue(), is("1"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(1).getProgress().getPosition()).getBeginValue(), is("1"));
+        assertThat(((StringPrimaryKeyPosition) actual.get(1).getProgress().getPosition()).getEndValue(), is("999"));
     }
     
     @Test(expected = PipelineJobCreationException.class)